@@ -0,0 +1,33 @@
+package br.com.trier.springvespertino.benchmarks;
+
+import java.time.ZonedDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import br.com.trier.springvespertino.utils.DateUtils;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DateUtilsBenchmark {
+
+	private final String dateStr = "01/03/2020";
+	private final ZonedDateTime date = DateUtils.strToZonedDateTime(dateStr);
+
+	@Benchmark
+	public ZonedDateTime strToZonedDateTime() {
+		return DateUtils.strToZonedDateTime(dateStr);
+	}
+
+	@Benchmark
+	public String zonedDateTimeToStr() {
+		return DateUtils.zonedDateTimeToStr(date);
+	}
+
+}
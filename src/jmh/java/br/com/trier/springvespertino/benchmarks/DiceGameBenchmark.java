@@ -0,0 +1,33 @@
+package br.com.trier.springvespertino.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.ResponseEntity;
+
+import br.com.trier.springvespertino.models.dto.ApostaDto;
+import br.com.trier.springvespertino.resources.DiceGameResource;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DiceGameBenchmark {
+
+	private final DiceGameResource resource = new DiceGameResource();
+
+	@Benchmark
+	public ResponseEntity<ApostaDto> jogar() {
+		return resource.jogar(3, 10);
+	}
+
+	@Benchmark
+	public ResponseEntity<ApostaDto> jogarInvalido() {
+		return resource.jogar(5, 10);
+	}
+
+}
@@ -0,0 +1,49 @@
+package br.com.trier.springvespertino.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import br.com.trier.springvespertino.models.Championship;
+import br.com.trier.springvespertino.models.Country;
+import br.com.trier.springvespertino.models.Pilot;
+import br.com.trier.springvespertino.models.PilotRace;
+import br.com.trier.springvespertino.models.Race;
+import br.com.trier.springvespertino.models.Speedway;
+import br.com.trier.springvespertino.models.Team;
+import br.com.trier.springvespertino.models.dto.PilotRaceDTO;
+import br.com.trier.springvespertino.models.dto.RaceDTO;
+import br.com.trier.springvespertino.utils.DateUtils;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DtoBenchmark {
+
+	private final Race race;
+	private final PilotRace pilotRace;
+
+	public DtoBenchmark() {
+		Country country = new Country(1, "Brasil");
+		Speedway speedway = new Speedway(1, "Interlagos", 4309, country);
+		Championship championship = new Championship(1, "Campeonato 2020", 2020);
+		race = new Race(1, DateUtils.strToZonedDateTime("01/03/2020"), speedway, championship);
+		pilotRace = new PilotRace(1, 1, new Pilot(1, "Piloto", country, new Team(1, "Equipe")), race);
+	}
+
+	@Benchmark
+	public RaceDTO raceToDTO() {
+		return race.toDTO();
+	}
+
+	@Benchmark
+	public PilotRaceDTO pilotRaceToDTO() {
+		return pilotRace.toDTO();
+	}
+
+}
@@ -0,0 +1,55 @@
+package br.com.trier.springvespertino.benchmarks;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import br.com.trier.springvespertino.config.CacheRegistry;
+import br.com.trier.springvespertino.config.jwt.JwtAuthFilter;
+import br.com.trier.springvespertino.config.jwt.JwtUtil;
+import jakarta.servlet.ServletException;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtAuthFilterBenchmark {
+
+	private JwtAuthFilter filter;
+	private String authorization;
+
+	@Setup
+	public void setUp() {
+		JwtUtil jwtUtil = new JwtUtil(new CacheRegistry(), 10000);
+		filter = new JwtAuthFilter();
+		ReflectionTestUtils.setField(filter, "jwtUtil", jwtUtil);
+		// Token com as permissões embutidas: o filtro não consulta o JwtUserDetailService
+		authorization = "Bearer " + jwtUtil.generateToken("email1", List.of("ROLE_ADMIN"));
+	}
+
+	@Benchmark
+	public MockHttpServletResponse doFilterInternal() throws ServletException, IOException {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/users");
+		request.addHeader("Authorization", authorization);
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		try {
+			filter.doFilter(request, response, new MockFilterChain());
+		} finally {
+			SecurityContextHolder.clearContext();
+		}
+		return response;
+	}
+
+}
@@ -0,0 +1,53 @@
+package br.com.trier.springvespertino.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import br.com.trier.springvespertino.config.CacheRegistry;
+import br.com.trier.springvespertino.config.jwt.JwtUtil;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtBenchmark {
+
+	private JwtUtil jwtUtil;
+	private JwtUtil uncachedJwtUtil;
+	private String token;
+	private UserDetails userDetails;
+
+	@Setup
+	public void setUp() {
+		jwtUtil = new JwtUtil(new CacheRegistry(), 10000);
+		// Tamanho zero: toda validação verifica a assinatura
+		uncachedJwtUtil = new JwtUtil(new CacheRegistry(), 0);
+		token = jwtUtil.generateToken("email1", List.of("ROLE_ADMIN"));
+		userDetails = User.withUsername("email1").password("").roles("ADMIN").build();
+	}
+
+	@Benchmark
+	public String generateToken() {
+		return jwtUtil.generateToken("email1", List.of("ROLE_ADMIN"));
+	}
+
+	@Benchmark
+	public Boolean validateToken() {
+		return jwtUtil.validateToken(token, userDetails);
+	}
+
+	@Benchmark
+	public Boolean validateTokenUncached() {
+		return uncachedJwtUtil.validateToken(token, userDetails);
+	}
+
+}
@@ -0,0 +1,33 @@
+package br.com.trier.springvespertino.config;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.UnaryOperator;
+
+import org.springframework.stereotype.Component;
+
+import br.com.trier.springvespertino.utils.BoundedCache;
+
+@Component
+public class CacheRegistry {
+
+	private final Map<String, BoundedCache<?, ?>> caches = Collections.synchronizedMap(new TreeMap<>());
+
+	public <K, V> BoundedCache<K, V> create(String name, int maxSize, long ttlMillis) {
+		return create(name, maxSize, ttlMillis, UnaryOperator.identity());
+	}
+
+	public <K, V> BoundedCache<K, V> create(String name, int maxSize, long ttlMillis, UnaryOperator<V> copier) {
+		BoundedCache<K, V> cache = new BoundedCache<>(maxSize, ttlMillis, copier);
+		caches.put(name, cache);
+		return cache;
+	}
+
+	public Map<String, BoundedCache<?, ?>> getCaches() {
+		synchronized (caches) {
+			return Map.copyOf(caches);
+		}
+	}
+
+}
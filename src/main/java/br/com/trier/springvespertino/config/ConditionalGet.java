@@ -0,0 +1,47 @@
+package br.com.trier.springvespertino.config;
+
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * GET condicional: a ETag vem das versões das tabelas lidas pelo endpoint. Se o cliente envia
+ * If-None-Match com a ETag atual a resposta é 304 e o repositório não é consultado.
+ * Cache-Control por recurso em http.cache-control.&lt;recurso&gt; (padrão http.cache-control.default).
+ */
+@Component
+public class ConditionalGet {
+
+	@Autowired
+	private TableVersions tableVersions;
+
+	@Autowired
+	private Environment environment;
+
+	public <T> ResponseEntity<T> get(WebRequest request, String resource, Supplier<ResponseEntity<T>> response,
+			String... tables) {
+		String etag = tableVersions.etag(tables);
+		String cacheControl = cacheControl(resource);
+		if (request.checkNotModified(etag)) {
+			return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).header(HttpHeaders.CACHE_CONTROL, cacheControl).build();
+		}
+		ResponseEntity<T> entity = response.get();
+		return ResponseEntity.status(entity.getStatusCode())
+				.headers(entity.getHeaders())
+				.eTag(etag)
+				.header(HttpHeaders.CACHE_CONTROL, cacheControl)
+				.body(entity.getBody());
+	}
+
+	private String cacheControl(String resource) {
+		return environment.getProperty("http.cache-control." + resource,
+				environment.getProperty("http.cache-control.default", "no-cache"));
+	}
+
+}
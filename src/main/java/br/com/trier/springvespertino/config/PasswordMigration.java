@@ -0,0 +1,47 @@
+package br.com.trier.springvespertino.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import br.com.trier.springvespertino.models.User;
+import br.com.trier.springvespertino.repositories.UserRepository;
+import br.com.trier.springvespertino.utils.PasswordUtils;
+
+/**
+ * Migração única: aplica BCrypt às senhas de usuario ainda gravadas em texto puro.
+ * Executada em toda inicialização (o login só compara com BCrypt) e sem efeito quando não há senhas
+ * em texto puro; pode ser desligada com security.migrate-plain-passwords=false.
+ */
+@Component
+@ConditionalOnProperty(name = "security.migrate-plain-passwords", havingValue = "true", matchIfMissing = true)
+public class PasswordMigration implements ApplicationRunner {
+
+	private static final Logger log = LoggerFactory.getLogger(PasswordMigration.class);
+
+	@Autowired
+	private UserRepository repository;
+
+	@Autowired
+	private PasswordEncoder encoder;
+
+	@Override
+	@Transactional
+	public void run(ApplicationArguments args) {
+		int migrated = 0;
+		for (User user : repository.findAll()) {
+			if (user.getPassword() != null && !PasswordUtils.isEncoded(user.getPassword())) {
+				user.setPassword(encoder.encode(user.getPassword()));
+				migrated++;
+			}
+		}
+		log.info("Senhas migradas para BCrypt: {}", migrated);
+	}
+
+}
@@ -0,0 +1,22 @@
+package br.com.trier.springvespertino.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class PointsTable {
+
+	private final int[] points;
+
+	public PointsTable(@Value("${standings.points:25,18,15,12,10,8,6,4,2,1}") int[] points) {
+		this.points = points.clone();
+	}
+
+	public int pointsFor(Integer placement) {
+		if (placement == null || placement < 1 || placement > points.length) {
+			return 0;
+		}
+		return points[placement - 1];
+	}
+
+}
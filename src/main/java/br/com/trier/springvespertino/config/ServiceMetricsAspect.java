@@ -0,0 +1,56 @@
+package br.com.trier.springvespertino.config;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+@Aspect
+@Component
+public class ServiceMetricsAspect {
+
+	public static final String METRIC = "service.method";
+
+	private final MeterRegistry registry;
+
+	// Um Timer por (classe, método, exceção): o builder e o registro ficam fora do caminho de cada chamada
+	private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+
+	public ServiceMetricsAspect(MeterRegistry registry) {
+		this.registry = registry;
+	}
+
+	@Around("within(br.com.trier.springvespertino.services.impl..*) && execution(public * *(..))")
+	public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+		Timer.Sample sample = Timer.start(registry);
+		String exception = "none";
+		try {
+			return joinPoint.proceed();
+		} catch (Throwable e) {
+			exception = e.getClass().getSimpleName();
+			throw e;
+		} finally {
+			sample.stop(timer(joinPoint.getSignature(), exception));
+		}
+	}
+
+	private Timer timer(Signature signature, String exception) {
+		return timers.computeIfAbsent(new TimerKey(signature.getDeclaringType(), signature.getName(), exception),
+				key -> Timer.builder(METRIC)
+						.tag("class", key.type().getSimpleName())
+						.tag("method", key.method())
+						.tag("exception", key.exception())
+						.register(registry));
+	}
+
+	private record TimerKey(Class<?> type, String method, String exception) {
+	}
+
+}
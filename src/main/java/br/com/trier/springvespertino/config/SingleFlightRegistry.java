@@ -0,0 +1,38 @@
+package br.com.trier.springvespertino.config;
+
+import org.springframework.stereotype.Component;
+
+import br.com.trier.springvespertino.utils.SingleFlight;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Component
+public class SingleFlightRegistry {
+
+	private final MeterRegistry meterRegistry;
+
+	private final TableVersions tableVersions;
+
+	public SingleFlightRegistry(MeterRegistry meterRegistry, TableVersions tableVersions) {
+		this.meterRegistry = meterRegistry;
+		this.tableVersions = tableVersions;
+	}
+
+	/** {@code tables} são as tabelas lidas pela consulta; escritas nelas encerram o compartilhamento. */
+	public <K, V> SingleFlight<K, V> create(String name, String... tables) {
+		SingleFlight<K, V> singleFlight = new SingleFlight<>(() -> tableVersions.sum(tables));
+		FunctionCounter.builder("singleflight.calls", singleFlight, SingleFlight::getCalls)
+				.tag("name", name)
+				.register(meterRegistry);
+		FunctionCounter.builder("singleflight.deduplicated", singleFlight, SingleFlight::getDeduplicated)
+				.tag("name", name)
+				.description("Chamadas que aguardaram uma consulta idêntica já em andamento")
+				.register(meterRegistry);
+		Gauge.builder("singleflight.in_flight", singleFlight, SingleFlight::getInFlight)
+				.tag("name", name)
+				.register(meterRegistry);
+		return singleFlight;
+	}
+
+}
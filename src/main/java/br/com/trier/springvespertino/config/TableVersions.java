@@ -0,0 +1,71 @@
+package br.com.trier.springvespertino.config;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Contador de versão por tabela, incrementado a cada escrita dos serviços; usado para gerar ETags
+ * sem consultar o banco. O incremento acontece após o commit: se ocorresse antes, uma leitura
+ * concorrente poderia guardar dados antigos sob a versão nova.
+ */
+@Component
+public class TableVersions {
+
+	public static final String CHAMPIONSHIP = "championship";
+	public static final String COUNTRY = "country";
+	public static final String PILOT = "pilot";
+	public static final String PILOT_RACE = "pilot_race";
+	public static final String RACE = "race";
+	public static final String SPEEDWAY = "speedway";
+	public static final String TEAM = "team";
+	public static final String USER = "user";
+
+	// Muda a cada inicialização, para que ETags de outra instância/execução não sejam aceitas
+	private final String epoch = Long.toHexString(System.currentTimeMillis());
+
+	private final Map<String, AtomicLong> versions = new ConcurrentHashMap<>();
+
+	public long get(String table) {
+		return counter(table).get();
+	}
+
+	// Só cresce, e muda a cada escrita em qualquer das tabelas
+	public long sum(String... tables) {
+		long sum = 0;
+		for (String table : tables) {
+			sum += get(table);
+		}
+		return sum;
+	}
+
+	public void bump(String table) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					counter(table).incrementAndGet();
+				}
+			});
+		} else {
+			counter(table).incrementAndGet();
+		}
+	}
+
+	public String etag(String... tables) {
+		StringBuilder etag = new StringBuilder("\"").append(epoch);
+		for (String table : tables) {
+			etag.append('-').append(get(table));
+		}
+		return etag.append('"').toString();
+	}
+
+	private AtomicLong counter(String table) {
+		return versions.computeIfAbsent(table, t -> new AtomicLong());
+	}
+
+}
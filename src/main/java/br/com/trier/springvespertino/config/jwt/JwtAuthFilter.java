@@ -3,9 +3,13 @@ package br.com.trier.springvespertino.config.jwt;
 import java.io.IOException;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -27,16 +31,14 @@ public class JwtAuthFilter extends OncePerRequestFilter{
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
         String authHeader = request.getHeader("Authorization");
-        String token = null;
-        String username = null;
+        TokenClaims claims = null;
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
-            token = authHeader.substring(7);
-            username = jwtUtil.extractUsername(token);
+            claims = jwtUtil.parseToken(authHeader.substring(7));
         }
 
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = service.loadUserByUsername(username);
-            if (jwtUtil.validateToken(token, userDetails)) {
+        if (claims != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+            UserDetails userDetails = resolve(claims);
+            if (userDetails != null && jwtUtil.validateToken(claims, userDetails)) {
                 UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
                 authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                 SecurityContextHolder.getContext().setAuthentication(authToken);
@@ -45,4 +47,25 @@ public class JwtAuthFilter extends OncePerRequestFilter{
         filterChain.doFilter(request, response);
     }
 
+    // As permissões vêm do usuário em cache, para que rebaixamento e exclusão valham antes de o token expirar.
+    // As embutidas no token só são usadas se o banco estiver indisponível.
+    private UserDetails resolve(TokenClaims claims) {
+        try {
+            return service.loadUserByUsername(claims.getUsername());
+        } catch (UsernameNotFoundException e) {
+            return null;
+        } catch (DataAccessException e) {
+            if (claims.getRoles() == null) {
+                throw e;
+            }
+            return fromClaims(claims);
+        }
+    }
+
+    private UserDetails fromClaims(TokenClaims claims) {
+        return new User(claims.getUsername(), "", claims.getRoles().stream()
+                .map(SimpleGrantedAuthority::new)
+                .toList());
+    }
+
 }
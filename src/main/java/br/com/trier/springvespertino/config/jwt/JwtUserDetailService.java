@@ -1,14 +1,16 @@
 package br.com.trier.springvespertino.config.jwt;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Component;
 
+import br.com.trier.springvespertino.config.CacheRegistry;
 import br.com.trier.springvespertino.repositories.UserRepository;
+import br.com.trier.springvespertino.utils.BoundedCache;
 
 
 @Component
@@ -17,14 +19,40 @@ public class JwtUserDetailService implements UserDetailsService {
 	@Autowired
 	private UserRepository repository;
 
+	private final BoundedCache<String, UserDetails> cache;
+
+	public JwtUserDetailService(CacheRegistry registry, @Value("${security.user-cache.size:1000}") int size,
+			@Value("${security.user-cache.ttl-seconds:300}") long ttlSeconds) {
+		this.cache = registry.create("user-details", size, ttlSeconds * 1000);
+	}
+
 	@Override
 	public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-		BCryptPasswordEncoder encoder = new BCryptPasswordEncoder();
-		br.com.trier.springvespertino.models.User user = repository.findByEmail(email).orElseThrow(null);
-		return User.builder()
-				.username(user.getEmail())
-				.password(encoder.encode(user.getPassword()))
-				.roles(user.getRoles().split(","))
-				.build();
+		UserDetails cached = cache.get(email);
+		if (cached == null) {
+			// Uma alteração ou exclusão durante a consulta invalida a geração e descarta esta carga
+			long generation = cache.generation();
+			br.com.trier.springvespertino.models.User user = repository.findByEmail(email)
+					.orElseThrow(() -> new UsernameNotFoundException("Usuário %s não encontrado".formatted(email)));
+			cached = User.builder()
+					.username(user.getEmail())
+					.password(user.getPassword())
+					.roles(user.getRoles().split(","))
+					.build();
+			cache.putIfCurrent(email, cached, generation);
+		}
+		// Cópia: o AuthenticationManager apaga a senha do principal após o login
+		return User.withUserDetails(cached).build();
+	}
+
+	public void evict(String email) {
+		if (email != null) {
+			cache.invalidate(email);
+		}
+	}
+
+	public void evictAll() {
+		cache.invalidateAll();
 	}
+
 }
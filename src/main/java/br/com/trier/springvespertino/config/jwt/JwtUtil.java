@@ -2,14 +2,19 @@ package br.com.trier.springvespertino.config.jwt;
 
 import java.security.Key;
 import java.util.Date;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.function.Function;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
+import br.com.trier.springvespertino.config.CacheRegistry;
+import br.com.trier.springvespertino.utils.BoundedCache;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
@@ -18,32 +23,60 @@ import io.jsonwebtoken.security.Keys;
 @Component
 public class JwtUtil {
 
+	public static final String ROLES_CLAIM = "roles";
+
 	public static final String SECRET = "oratoroeuaroupadoreideromaarainhamatouorato";
 
+	private static final long EXPIRATION_MILLIS = 1000 * 60 * 30;
+
+	private static final Key SIGN_KEY = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET));
+
+	private static final JwtParser PARSER = Jwts.parserBuilder().setSigningKey(SIGN_KEY).build();
+
+	// Tokens já verificados, válidos até a própria expiração
+	private final BoundedCache<String, TokenClaims> verifiedTokens;
+
+	public JwtUtil(CacheRegistry registry, @Value("${jwt.verified-cache.size:10000}") int verifiedCacheSize) {
+		this.verifiedTokens = registry.create("jwt-verified-tokens", verifiedCacheSize, EXPIRATION_MILLIS);
+	}
+
 	public String extractUsername(String token) {
-		return extractClaim(token, Claims::getSubject);
+		return parseToken(token).getUsername();
 	}
 
 	public Date extractExpiration(String token) {
-		return extractClaim(token, Claims::getExpiration);
+		return parseToken(token).getExpiration();
 	}
 
-	public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-		final Claims claims = extractAllClaims(token);
-		return claimsResolver.apply(claims);
+	private Claims extractAllClaims(String token) {
+		return PARSER.parseClaimsJws(token).getBody();
 	}
 
-	private Claims extractAllClaims(String token) {
-		return Jwts.parserBuilder().setSigningKey(getSignKey()).build().parseClaimsJws(token).getBody();
+	public TokenClaims parseToken(String token) {
+		TokenClaims cached = verifiedTokens.get(token);
+		if (cached != null) {
+			return cached;
+		}
+		Claims claims = extractAllClaims(token);
+		TokenClaims tokenClaims = new TokenClaims(claims.getSubject(), claims.getExpiration(), extractRoles(claims));
+		verifiedTokens.put(token, tokenClaims, tokenClaims.getExpiration().getTime());
+		return tokenClaims;
 	}
 
-	private Boolean isTokenExpired(String token) {
-		return extractExpiration(token).before(new Date());
+	private List<String> extractRoles(Claims claims) {
+		Object roles = claims.get(ROLES_CLAIM);
+		if (roles instanceof Collection<?> values) {
+			return values.stream().map(String::valueOf).toList();
+		}
+		return null;
 	}
 
 	public Boolean validateToken(String token, UserDetails userDetails) {
-		final String username = extractUsername(token);
-		return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
+		return validateToken(parseToken(token), userDetails);
+	}
+
+	public Boolean validateToken(TokenClaims claims, UserDetails userDetails) {
+		return (claims.getUsername().equals(userDetails.getUsername()) && !claims.isExpired());
 	}
 
 	public String generateToken(String userName) {
@@ -51,18 +84,19 @@ public class JwtUtil {
 		return createToken(claims, userName);
 	}
 
+	public String generateToken(String userName, Collection<String> roles) {
+		Map<String, Object> claims = new HashMap<>();
+		claims.put(ROLES_CLAIM, List.copyOf(roles));
+		return createToken(claims, userName);
+	}
+
 	private String createToken(Map<String, Object> claims, String userName) {
 		return Jwts.builder()
 				.setClaims(claims)
 				.setSubject(userName)
 				.setIssuedAt(new Date(System.currentTimeMillis()))
-				.setExpiration(new Date(System.currentTimeMillis() + 1000 * 60 * 30))
-				.signWith(getSignKey(), SignatureAlgorithm.HS256).compact();
-	}
-
-	private Key getSignKey() {
-		byte[] keyBytes = Decoders.BASE64.decode(SECRET);
-		return Keys.hmacShaKeyFor(keyBytes);
+				.setExpiration(new Date(System.currentTimeMillis() + EXPIRATION_MILLIS))
+				.signWith(SIGN_KEY, SignatureAlgorithm.HS256).compact();
 	}
 
 }
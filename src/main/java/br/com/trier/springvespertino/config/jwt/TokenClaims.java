@@ -0,0 +1,21 @@
+package br.com.trier.springvespertino.config.jwt;
+
+import java.util.Date;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class TokenClaims {
+
+	private String username;
+	private Date expiration;
+	private List<String> roles;
+
+	public boolean isExpired() {
+		return expiration.before(new Date());
+	}
+
+}
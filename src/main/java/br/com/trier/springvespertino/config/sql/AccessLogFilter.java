@@ -0,0 +1,50 @@
+package br.com.trier.springvespertino.config.sql;
+
+import java.io.IOException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+// Ativo com a instrumentação mesmo sem o log: é quem abre e fecha a contagem por requisição
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+@ConditionalOnProperty(name = "sql.instrumentation.enabled", havingValue = "true")
+public class AccessLogFilter extends OncePerRequestFilter {
+
+	private static final Logger log = LoggerFactory.getLogger("access");
+
+	private final boolean enabled;
+
+	public AccessLogFilter(@Value("${sql.access-log.enabled:false}") boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+			throws ServletException, IOException {
+		SqlContext context = SqlContext.begin();
+		long start = System.nanoTime();
+		try {
+			filterChain.doFilter(request, response);
+		} finally {
+			if (enabled) {
+				log.info("{} {} {} {} ms sql={} sql_ms={}", request.getMethod(), request.getRequestURI(),
+						response.getStatus(), (System.nanoTime() - start) / 1_000_000, context.getStatements(),
+						context.getMillis());
+			}
+			SqlContext.end();
+		}
+	}
+
+}
@@ -0,0 +1,100 @@
+package br.com.trier.springvespertino.config.sql;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Mede cada execução de statement, soma no {@link SqlContext} da thread e registra
+ * as que passam do limite com o método de repositório que as originou.
+ */
+public class InstrumentedDataSource extends DelegatingDataSource {
+
+	private static final Logger log = LoggerFactory.getLogger("sql.slow");
+
+	private final long thresholdNanos;
+
+	public InstrumentedDataSource(DataSource target, long thresholdMillis) {
+		super(target);
+		this.thresholdNanos = thresholdMillis * 1_000_000;
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		return wrap(super.getConnection());
+	}
+
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		return wrap(super.getConnection(username, password));
+	}
+
+	private Connection wrap(Connection connection) {
+		return (Connection) proxy(Connection.class, (proxy, method, args) -> {
+			Object result = invoke(connection, method, args);
+			if (result instanceof Statement statement) {
+				String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : null;
+				return wrap(statement, sql);
+			}
+			return result;
+		});
+	}
+
+	private Statement wrap(Statement statement, String preparedSql) {
+		Class<?> type = statement instanceof CallableStatement ? CallableStatement.class
+				: statement instanceof PreparedStatement ? PreparedStatement.class : Statement.class;
+		return (Statement) proxy(type, (proxy, method, args) -> {
+			if (!method.getName().startsWith("execute")) {
+				return invoke(statement, method, args);
+			}
+			long start = System.nanoTime();
+			try {
+				return invoke(statement, method, args);
+			} finally {
+				long elapsed = System.nanoTime() - start;
+				SqlContext context = SqlContext.current();
+				context.record(elapsed);
+				if (elapsed >= thresholdNanos) {
+					String sql = preparedSql != null ? preparedSql : args != null && args.length > 0 ? String.valueOf(args[0]) : "?";
+					log.warn("{} ms em {} ({} parâmetros): {}", elapsed / 1_000_000, context.getRepositoryMethod(),
+							countParameters(sql), sql.replaceAll("\\s+", " ").strip());
+				}
+			}
+		});
+	}
+
+	private static int countParameters(String sql) {
+		int count = 0;
+		for (int i = 0; i < sql.length(); i++) {
+			if (sql.charAt(i) == '?') {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+		try {
+			return method.invoke(target, args);
+		} catch (InvocationTargetException e) {
+			throw e.getTargetException();
+		}
+	}
+
+	private static Object proxy(Class<?> type, InvocationHandler handler) {
+		return Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, handler);
+	}
+
+}
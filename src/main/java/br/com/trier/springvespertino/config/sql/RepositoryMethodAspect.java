@@ -0,0 +1,44 @@
+package br.com.trier.springvespertino.config.sql;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// Identifica o método de repositório no log de consultas lentas
+@Aspect
+@Component
+@ConditionalOnProperty(name = "sql.instrumentation.enabled", havingValue = "true")
+public class RepositoryMethodAspect {
+
+	private static final String REPOSITORIES = "br.com.trier.springvespertino.repositories";
+
+	private final Map<Class<?>, String> names = new ConcurrentHashMap<>();
+
+	@Around("this(org.springframework.data.repository.Repository)")
+	public Object trace(ProceedingJoinPoint joinPoint) throws Throwable {
+		SqlContext context = SqlContext.current();
+		context.enterRepository(repositoryName(joinPoint.getThis().getClass()) + "." + joinPoint.getSignature().getName());
+		try {
+			return joinPoint.proceed();
+		} finally {
+			context.exitRepository();
+		}
+	}
+
+	private String repositoryName(Class<?> proxyClass) {
+		return names.computeIfAbsent(proxyClass, type -> {
+			for (Class<?> candidate : type.getInterfaces()) {
+				if (candidate.getPackageName().equals(REPOSITORIES)) {
+					return candidate.getSimpleName();
+				}
+			}
+			return type.getSimpleName();
+		});
+	}
+
+}
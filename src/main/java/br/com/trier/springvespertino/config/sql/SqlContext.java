@@ -0,0 +1,91 @@
+package br.com.trier.springvespertino.config.sql;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Estado por thread da instrumentação de SQL: método de repositório em execução
+ * e contadores da requisição corrente. Os contadores só somam entre {@link #begin()} e
+ * {@link #end()}, para que threads fora de uma requisição não acumulem indefinidamente.
+ */
+public final class SqlContext {
+
+	private static final ThreadLocal<SqlContext> CURRENT = ThreadLocal.withInitial(SqlContext::new);
+
+	private final Deque<String> repositoryMethods = new ArrayDeque<>();
+	private boolean counting;
+	private int statements;
+	private long nanos;
+
+	private SqlContext() {
+	}
+
+	public static SqlContext current() {
+		return CURRENT.get();
+	}
+
+	/** Inicia a contagem da requisição corrente. */
+	public static SqlContext begin() {
+		SqlContext context = CURRENT.get();
+		context.reset();
+		context.counting = true;
+		return context;
+	}
+
+	/** Encerra a contagem; a thread volta ao pool sem contadores pendentes. */
+	public static void end() {
+		SqlContext context = CURRENT.get();
+		context.counting = false;
+		context.reset();
+	}
+
+	public void enterRepository(String method) {
+		repositoryMethods.push(method);
+	}
+
+	public void exitRepository() {
+		repositoryMethods.poll();
+	}
+
+	/**
+	 * Método de repositório em execução. Fora dele (ex.: o flush no commit de um método
+	 * {@code @Transactional}) usa o nome da transação, que é o método de serviço que a abriu.
+	 */
+	public String getRepositoryMethod() {
+		String method = repositoryMethods.peek();
+		if (method != null) {
+			return method;
+		}
+		String transaction = TransactionSynchronizationManager.getCurrentTransactionName();
+		if (transaction == null) {
+			return "?";
+		}
+		int dot = transaction.lastIndexOf('.');
+		int type = transaction.lastIndexOf('.', dot - 1);
+		return transaction.substring(type + 1);
+	}
+
+	public void record(long elapsedNanos) {
+		if (!counting) {
+			return;
+		}
+		statements++;
+		nanos += elapsedNanos;
+	}
+
+	public int getStatements() {
+		return statements;
+	}
+
+	public long getMillis() {
+		return nanos / 1_000_000;
+	}
+
+	public void reset() {
+		statements = 0;
+		nanos = 0;
+	}
+
+}
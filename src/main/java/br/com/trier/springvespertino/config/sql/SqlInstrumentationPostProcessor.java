@@ -0,0 +1,28 @@
+package br.com.trier.springvespertino.config.sql;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "sql.instrumentation.enabled", havingValue = "true")
+public class SqlInstrumentationPostProcessor implements BeanPostProcessor {
+
+	private final long thresholdMillis;
+
+	public SqlInstrumentationPostProcessor(@Value("${sql.slow-query.threshold-ms:200}") long thresholdMillis) {
+		this.thresholdMillis = thresholdMillis;
+	}
+
+	@Override
+	public Object postProcessAfterInitialization(Object bean, String beanName) {
+		if (bean instanceof DataSource dataSource && !(bean instanceof InstrumentedDataSource)) {
+			return new InstrumentedDataSource(dataSource, thresholdMillis);
+		}
+		return bean;
+	}
+
+}
@@ -3,10 +3,12 @@ package br.com.trier.springvespertino.models;
 import br.com.trier.springvespertino.models.dto.PilotRaceDTO;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -21,7 +23,8 @@ import lombok.Setter;
 public class PilotRace {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "piloto_corrida_seq")
+	@SequenceGenerator(name = "piloto_corrida_seq", sequenceName = "piloto_corrida_seq", allocationSize = 50)
 	@Column(name = "id")
 	@Setter
 	private Integer id;
@@ -29,10 +32,10 @@ public class PilotRace {
 	@Column(name = "colocacao")
 	private Integer placement;
 
-	@ManyToOne
+	@ManyToOne(fetch = FetchType.LAZY)
 	private Pilot pilot;
 
-	@ManyToOne
+	@ManyToOne(fetch = FetchType.LAZY)
 	private Race race;
 
 	public PilotRace(PilotRaceDTO dto, Pilot pilot, Race race) {
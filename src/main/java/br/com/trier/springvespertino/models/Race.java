@@ -6,6 +6,7 @@ import br.com.trier.springvespertino.models.dto.RaceDTO;
 import br.com.trier.springvespertino.utils.DateUtils;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
@@ -33,11 +34,11 @@ public class Race {
 	@Column(name = "data_corrida")
 	private ZonedDateTime date;
 	
-	@ManyToOne
+	@ManyToOne(fetch = FetchType.LAZY)
 	@NotNull
 	private Speedway speedway;
 	
-	@ManyToOne
+	@ManyToOne(fetch = FetchType.LAZY)
 	@NotNull
 	private Championship championship;
 	
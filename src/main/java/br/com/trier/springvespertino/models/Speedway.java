@@ -2,6 +2,7 @@ package br.com.trier.springvespertino.models;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
@@ -31,7 +32,7 @@ public class Speedway {
 	@Column(name = "tamanho_pista")
 	private Integer size;
 	
-	@ManyToOne
+	@ManyToOne(fetch = FetchType.LAZY)
 	private Country country;
 
 }
@@ -1,5 +1,7 @@
 package br.com.trier.springvespertino.models;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
@@ -15,6 +17,7 @@ import lombok.Setter;
 @AllArgsConstructor
 @NoArgsConstructor
 @EqualsAndHashCode (of = "id")
+@JsonIgnoreProperties("hibernateLazyInitializer")
 @Entity (name = "equipe")
 public class Team {
 	
@@ -31,6 +31,7 @@ public class User {
 	@Column(name = "email_usuario", unique = true)
 	private String email;
 	
+	@Setter
 	@Column(name = "senha_usuario")
 	private String password;
 	
@@ -0,0 +1,17 @@
+package br.com.trier.springvespertino.models.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+public class BatchResultDTO<T> {
+
+	private List<T> items;
+	private List<Integer> missing;
+
+}
@@ -0,0 +1,18 @@
+package br.com.trier.springvespertino.models.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+public class CacheStatsDTO {
+
+	private String name;
+	private Integer size;
+	private Long hits;
+	private Long misses;
+	private Double hitRatio;
+
+}
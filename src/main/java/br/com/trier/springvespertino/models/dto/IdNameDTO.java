@@ -0,0 +1,15 @@
+package br.com.trier.springvespertino.models.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+public class IdNameDTO {
+
+	private Integer id;
+	private String name;
+
+}
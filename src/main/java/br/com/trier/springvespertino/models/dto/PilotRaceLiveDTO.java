@@ -0,0 +1,25 @@
+package br.com.trier.springvespertino.models.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+public class PilotRaceLiveDTO {
+
+	public static final String INSERTED = "inserted";
+	public static final String UPDATED = "updated";
+	public static final String DELETED = "deleted";
+
+	private String type;
+	private Integer id;
+	private Integer idRace;
+	private Integer idPilot;
+	private String namePilot;
+	private Integer idTeam;
+	private String nameTeam;
+	private Integer placement;
+
+}
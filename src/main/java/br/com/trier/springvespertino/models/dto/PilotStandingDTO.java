@@ -0,0 +1,21 @@
+package br.com.trier.springvespertino.models.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+public class PilotStandingDTO {
+
+	private Integer position;
+	private Integer idPilot;
+	private String namePilot;
+	private Integer idTeam;
+	private String nameTeam;
+	private Integer points;
+	private Integer races;
+	private Integer wins;
+
+}
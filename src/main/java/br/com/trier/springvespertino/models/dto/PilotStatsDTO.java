@@ -0,0 +1,22 @@
+package br.com.trier.springvespertino.models.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+public class PilotStatsDTO {
+
+	private Integer idPilot;
+	private String namePilot;
+	private Integer races;
+	private Integer wins;
+	private Integer podiums;
+	private Double averagePlacement;
+	private List<SpeedwayBestDTO> speedways;
+
+}
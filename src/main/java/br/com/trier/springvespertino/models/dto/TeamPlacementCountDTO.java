@@ -0,0 +1,17 @@
+package br.com.trier.springvespertino.models.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+public class TeamPlacementCountDTO {
+
+	private Integer teamId;
+	private String teamName;
+	private Integer placement;
+	private Long total;
+
+}
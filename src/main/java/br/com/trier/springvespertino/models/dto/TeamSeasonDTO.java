@@ -0,0 +1,21 @@
+package br.com.trier.springvespertino.models.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+public class TeamSeasonDTO {
+
+	private Integer idTeam;
+	private String nameTeam;
+	private Integer idChampionship;
+	private Integer year;
+	private Integer results;
+	private Integer wins;
+	private Integer podiums;
+	private Integer points;
+
+}
@@ -0,0 +1,17 @@
+package br.com.trier.springvespertino.models.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+public class TeamStandingDTO {
+
+	private Integer position;
+	private Integer idTeam;
+	private String nameTeam;
+	private Integer points;
+
+}
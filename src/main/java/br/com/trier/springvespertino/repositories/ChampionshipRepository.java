@@ -2,18 +2,25 @@ package br.com.trier.springvespertino.repositories;
 
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import br.com.trier.springvespertino.models.Championship;
+import br.com.trier.springvespertino.models.dto.IdNameDTO;
 
 @Repository
 public interface ChampionshipRepository extends JpaRepository<Championship, Integer>{
+
+	List<Championship> findByIdGreaterThanOrderByIdAsc(Integer id, Pageable pageable);
 	
 	List<Championship> findByYearBetween(Integer start, Integer end);
 	List<Championship> findByYear(Integer year);
 	List<Championship> findByDescriptionContainsIgnoreCase(String descricao);
 	List<Championship> findByDescriptionContainsIgnoreCaseAndYearEquals(String descricao, Integer ano);
-	
+
+	@Query("select new br.com.trier.springvespertino.models.dto.IdNameDTO(c.id, c.description) from campeonato c")
+	List<IdNameDTO> findAllDescriptions();
 
 }
@@ -2,6 +2,7 @@ package br.com.trier.springvespertino.repositories;
 
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -9,5 +10,7 @@ import br.com.trier.springvespertino.models.Country;
 
 @Repository
 public interface CountryRepository extends JpaRepository<Country, Integer>{
+
+	List<Country> findByIdGreaterThanOrderByIdAsc(Integer id, Pageable pageable);
 	List<Country> findByNameEqualsIgnoreCase(String nome);
 }
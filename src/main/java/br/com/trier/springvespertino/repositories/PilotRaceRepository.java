@@ -1,21 +1,162 @@
 package br.com.trier.springvespertino.repositories;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import br.com.trier.springvespertino.models.Pilot;
 import br.com.trier.springvespertino.models.PilotRace;
 import br.com.trier.springvespertino.models.Race;
+import br.com.trier.springvespertino.models.dto.PilotRaceDTO;
+import br.com.trier.springvespertino.models.dto.PlacementCountDTO;
+import br.com.trier.springvespertino.models.dto.SpeedwayPlacementCountDTO;
+import br.com.trier.springvespertino.models.dto.TeamPlacementCountDTO;
+import jakarta.persistence.QueryHint;
 
 @Repository
 public interface PilotRaceRepository extends JpaRepository<PilotRace, Integer> {
+
+	@Override
+	@EntityGraph(attributePaths = {"pilot"})
+	List<PilotRace> findAll();
+
+	@Override
+	@EntityGraph(attributePaths = {"pilot", "pilot.team", "race"})
+	Optional<PilotRace> findById(Integer id);
+
+	@EntityGraph(attributePaths = {"pilot"})
+	List<PilotRace> findByIdGreaterThanOrderByIdAsc(Integer id, Pageable pageable);
 	
+	@EntityGraph(attributePaths = {"pilot"})
 	List<PilotRace> findByPlacement(Integer placement);
+	@EntityGraph(attributePaths = {"pilot"})
 	List<PilotRace> findByPilot(Pilot pilot);
+	@EntityGraph(attributePaths = {"pilot"})
 	List<PilotRace> findByRaceOrderByPlacementAsc(Race race);
+	@EntityGraph(attributePaths = {"pilot"})
 	List<PilotRace> findByPlacementBetweenAndRace(Integer placementIn, Integer placementFin, Race race);
+	@EntityGraph(attributePaths = {"pilot"})
 	PilotRace findByPilotAndRace(Pilot pilot, Race race);
+
+	boolean existsByPilotAndRace(Pilot pilot, Race race);
+
+	boolean existsByPilotAndRaceAndIdNot(Pilot pilot, Race race, Integer id);
+
+	@Query("select pr.pilot.id from piloto_corrida pr where pr.race = :race")
+	Set<Integer> findPilotIdsByRace(@Param("race") Race race);
+
+	@Query("""
+			select new br.com.trier.springvespertino.models.dto.PlacementCountDTO(p.id, p.name, t.id, t.name, pr.placement, count(pr))
+			from piloto_corrida pr join pr.pilot p join p.team t join pr.race r
+			where r.championship.id = :championshipId
+			group by p.id, p.name, t.id, t.name, pr.placement
+			""")
+	List<PlacementCountDTO> countPlacementsByChampionship(@Param("championshipId") Integer championshipId);
+
+	@Query("""
+			select new br.com.trier.springvespertino.models.dto.TeamPlacementCountDTO(t.id, t.name, pr.placement, count(pr))
+			from piloto_corrida pr join pr.pilot p join p.team t join pr.race r
+			where r.championship.id = :championshipId
+			group by t.id, t.name, pr.placement
+			""")
+	List<TeamPlacementCountDTO> countTeamPlacementsByChampionship(@Param("championshipId") Integer championshipId);
+
+	@Query("""
+			select new br.com.trier.springvespertino.models.dto.TeamPlacementCountDTO(t.id, t.name, pr.placement, count(pr))
+			from piloto_corrida pr join pr.pilot p join p.team t join pr.race r
+			where r.championship.id = :championshipId and t.id = :teamId
+			group by t.id, t.name, pr.placement
+			""")
+	List<TeamPlacementCountDTO> countTeamPlacementsByChampionshipAndTeam(@Param("championshipId") Integer championshipId,
+			@Param("teamId") Integer teamId);
+
+	@Query("""
+			select new br.com.trier.springvespertino.models.dto.SpeedwayPlacementCountDTO(pr.pilot.id, r.speedway.id, pr.placement, count(pr))
+			from piloto_corrida pr join pr.race r
+			where pr.pilot.id = :pilotId
+			group by pr.pilot.id, r.speedway.id, pr.placement
+			""")
+	List<SpeedwayPlacementCountDTO> countPlacementsBySpeedway(@Param("pilotId") Integer pilotId);
+
+	@Query("""
+			select new br.com.trier.springvespertino.models.dto.SpeedwayPlacementCountDTO(pr.pilot.id, r.speedway.id, pr.placement, count(pr))
+			from piloto_corrida pr join pr.race r
+			group by pr.pilot.id, r.speedway.id, pr.placement
+			""")
+	List<SpeedwayPlacementCountDTO> countAllPlacementsBySpeedway();
+
+	@Query("""
+			select new br.com.trier.springvespertino.models.dto.PilotRaceDTO(pr.id, pr.placement, p.id, p.name, pr.race.id)
+			from piloto_corrida pr join pr.pilot p
+			where pr.id = :id
+			""")
+	Optional<PilotRaceDTO> findDTOById(@Param("id") Integer id);
+
+	@Query("""
+			select new br.com.trier.springvespertino.models.dto.PilotRaceDTO(pr.id, pr.placement, p.id, p.name, pr.race.id)
+			from piloto_corrida pr join pr.pilot p
+			where pr.id > :id
+			order by pr.id
+			""")
+	List<PilotRaceDTO> findDTOByIdGreaterThan(@Param("id") Integer id, Pageable pageable);
+
+	@Query("""
+			select new br.com.trier.springvespertino.models.dto.PilotRaceDTO(pr.id, pr.placement, p.id, p.name, pr.race.id)
+			from piloto_corrida pr join pr.pilot p
+			where pr.id in :ids
+			""")
+	List<PilotRaceDTO> findDTOByIdIn(@Param("ids") Collection<Integer> ids);
+
+	@Query("""
+			select new br.com.trier.springvespertino.models.dto.PilotRaceDTO(pr.id, pr.placement, p.id, p.name, pr.race.id)
+			from piloto_corrida pr join pr.pilot p
+			where pr.placement = :placement
+			""")
+	List<PilotRaceDTO> findDTOByPlacement(@Param("placement") Integer placement);
+
+	@Query("""
+			select new br.com.trier.springvespertino.models.dto.PilotRaceDTO(pr.id, pr.placement, p.id, p.name, pr.race.id)
+			from piloto_corrida pr join pr.pilot p
+			where p.id = :pilotId
+			""")
+	List<PilotRaceDTO> findDTOByPilot(@Param("pilotId") Integer pilotId);
+
+	@Query("""
+			select new br.com.trier.springvespertino.models.dto.PilotRaceDTO(pr.id, pr.placement, p.id, p.name, pr.race.id)
+			from piloto_corrida pr join pr.pilot p
+			where pr.race.id = :raceId
+			order by pr.placement
+			""")
+	List<PilotRaceDTO> findDTOByRaceOrderByPlacementAsc(@Param("raceId") Integer raceId);
+
+	@Query("""
+			select new br.com.trier.springvespertino.models.dto.PilotRaceDTO(pr.id, pr.placement, p.id, p.name, pr.race.id)
+			from piloto_corrida pr join pr.pilot p
+			where pr.placement between :placementIn and :placementFin and pr.race.id = :raceId
+			""")
+	List<PilotRaceDTO> findDTOByPlacementBetweenAndRace(@Param("placementIn") Integer placementIn,
+			@Param("placementFin") Integer placementFin, @Param("raceId") Integer raceId);
+
+	@Query("""
+			select new br.com.trier.springvespertino.models.dto.PilotRaceDTO(pr.id, pr.placement, p.id, p.name, pr.race.id)
+			from piloto_corrida pr join pr.pilot p
+			where p.id = :pilotId and pr.race.id = :raceId
+			""")
+	Optional<PilotRaceDTO> findDTOByPilotAndRace(@Param("pilotId") Integer pilotId, @Param("raceId") Integer raceId);
+
+	@QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "500"))
+	@Query("select pr from piloto_corrida pr join fetch pr.pilot order by pr.id")
+	Stream<PilotRace> streamAll();
 	
 }
\ No newline at end of file
@@ -1,19 +1,43 @@
 package br.com.trier.springvespertino.repositories;
 
 import java.util.List;
+import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import br.com.trier.springvespertino.models.Country;
 import br.com.trier.springvespertino.models.Pilot;
 import br.com.trier.springvespertino.models.Team;
+import br.com.trier.springvespertino.models.dto.IdNameDTO;
 
 @Repository
 public interface PilotRepository extends JpaRepository<Pilot, Integer>{
+
+	@Override
+	@EntityGraph(attributePaths = {"country", "team"})
+	Optional<Pilot> findById(Integer id);
+
+	@Override
+	@EntityGraph(attributePaths = {"country", "team"})
+	List<Pilot> findAll();
+
+	@Override
+	@EntityGraph(attributePaths = {"country", "team"})
+	List<Pilot> findAllById(Iterable<Integer> ids);
+
+	@EntityGraph(attributePaths = {"country", "team"})
+	List<Pilot> findByIdGreaterThanOrderByIdAsc(Integer id, Pageable pageable);
 	
-	List<Pilot> findByNameStartsWithIgnoreCase(String name);
+	@Query("select new br.com.trier.springvespertino.models.dto.IdNameDTO(p.id, p.name) from piloto p")
+	List<IdNameDTO> findAllNames();
+
+	@EntityGraph(attributePaths = {"country", "team"})
 	List<Pilot> findByCountry(Country country);
+	@EntityGraph(attributePaths = {"country", "team"})
 	List<Pilot> findByTeam(Team team);
 	
 	
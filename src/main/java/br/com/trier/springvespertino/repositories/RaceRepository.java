@@ -1,20 +1,102 @@
 package br.com.trier.springvespertino.repositories;
 
 import java.time.ZonedDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import br.com.trier.springvespertino.models.Championship;
+import br.com.trier.springvespertino.models.Country;
 import br.com.trier.springvespertino.models.Race;
 import br.com.trier.springvespertino.models.Speedway;
+import br.com.trier.springvespertino.models.dto.RaceDTO;
+import jakarta.persistence.QueryHint;
 
 @Repository
 public interface RaceRepository extends JpaRepository<Race, Integer>{
+
+	@Override
+	@EntityGraph(attributePaths = {"speedway", "championship"})
+	Optional<Race> findById(Integer id);
+
+	@Override
+	@EntityGraph(attributePaths = {"speedway", "championship"})
+	List<Race> findAll();
+
+	@EntityGraph(attributePaths = {"speedway", "championship"})
+	List<Race> findByIdGreaterThanOrderByIdAsc(Integer id, Pageable pageable);
 	
+	@EntityGraph(attributePaths = {"speedway", "championship"})
 	List<Race> findByDate(ZonedDateTime date);
+	@EntityGraph(attributePaths = {"speedway", "championship"})
 	List<Race> findBySpeedway(Speedway speedway);
+	@EntityGraph(attributePaths = {"speedway", "championship"})
 	List<Race> findByChampionship(Championship championship);
 
+	@Query("""
+			select new br.com.trier.springvespertino.models.dto.RaceDTO(r.id, r.date, s.id, s.name, c.id, c.description)
+			from corrida r join r.speedway s join r.championship c
+			where s.country = :country and r.date >= :start and r.date < :end
+			order by s.size desc, r.date
+			""")
+	List<RaceDTO> findByCountryAndDateRange(@Param("country") Country country, @Param("start") ZonedDateTime start,
+			@Param("end") ZonedDateTime end);
+
+	@Query("""
+			select new br.com.trier.springvespertino.models.dto.RaceDTO(r.id, r.date, s.id, s.name, c.id, c.description)
+			from corrida r join r.speedway s join r.championship c
+			where r.id = :id
+			""")
+	Optional<RaceDTO> findDTOById(@Param("id") Integer id);
+
+	@Query("""
+			select new br.com.trier.springvespertino.models.dto.RaceDTO(r.id, r.date, s.id, s.name, c.id, c.description)
+			from corrida r join r.speedway s join r.championship c
+			where r.id > :id
+			order by r.id
+			""")
+	List<RaceDTO> findDTOByIdGreaterThan(@Param("id") Integer id, Pageable pageable);
+
+	@Query("""
+			select new br.com.trier.springvespertino.models.dto.RaceDTO(r.id, r.date, s.id, s.name, c.id, c.description)
+			from corrida r join r.speedway s join r.championship c
+			where r.id in :ids
+			""")
+	List<RaceDTO> findDTOByIdIn(@Param("ids") Collection<Integer> ids);
+
+	@Query("""
+			select new br.com.trier.springvespertino.models.dto.RaceDTO(r.id, r.date, s.id, s.name, c.id, c.description)
+			from corrida r join r.speedway s join r.championship c
+			where r.date = :date
+			""")
+	List<RaceDTO> findDTOByDate(@Param("date") ZonedDateTime date);
+
+	@Query("""
+			select new br.com.trier.springvespertino.models.dto.RaceDTO(r.id, r.date, s.id, s.name, c.id, c.description)
+			from corrida r join r.speedway s join r.championship c
+			where s.id = :speedwayId
+			""")
+	List<RaceDTO> findDTOBySpeedway(@Param("speedwayId") Integer speedwayId);
+
+	@Query("""
+			select new br.com.trier.springvespertino.models.dto.RaceDTO(r.id, r.date, s.id, s.name, c.id, c.description)
+			from corrida r join r.speedway s join r.championship c
+			where c.id = :championshipId
+			""")
+	List<RaceDTO> findDTOByChampionship(@Param("championshipId") Integer championshipId);
+
+	@QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "500"))
+	@Query("select r from corrida r join fetch r.speedway join fetch r.championship order by r.id")
+	Stream<Race> streamAll();
+
 }
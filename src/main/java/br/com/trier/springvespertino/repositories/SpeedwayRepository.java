@@ -1,18 +1,42 @@
 package br.com.trier.springvespertino.repositories;
 
 import java.util.List;
+import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import br.com.trier.springvespertino.models.Country;
 import br.com.trier.springvespertino.models.Speedway;
+import br.com.trier.springvespertino.models.dto.IdNameDTO;
 
 @Repository
 public interface SpeedwayRepository extends JpaRepository<Speedway, Integer>{
+
+	@Override
+	@EntityGraph(attributePaths = {"country"})
+	Optional<Speedway> findById(Integer id);
+
+	@Override
+	@EntityGraph(attributePaths = {"country"})
+	List<Speedway> findAll();
+
+	@Override
+	@EntityGraph(attributePaths = {"country"})
+	List<Speedway> findAllById(Iterable<Integer> ids);
+
+	@EntityGraph(attributePaths = {"country"})
+	List<Speedway> findByIdGreaterThanOrderByIdAsc(Integer id, Pageable pageable);
 	
-	List<Speedway> findByNameStartsWithIgnoreCase(String name);
+	@Query("select new br.com.trier.springvespertino.models.dto.IdNameDTO(s.id, s.name) from pista s")
+	List<IdNameDTO> findAllNames();
+
+	@EntityGraph(attributePaths = {"country"})
 	List<Speedway> findBySizeBetween(Integer sizeIn, Integer sizeFin);
+	@EntityGraph(attributePaths = {"country"})
 	List<Speedway> findByCountryOrderBySizeDesc(Country country);
 
 }
@@ -2,6 +2,7 @@ package br.com.trier.springvespertino.repositories;
 
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -10,6 +11,8 @@ import br.com.trier.springvespertino.models.Team;
 @Repository
 public interface TeamRepository extends JpaRepository<Team, Integer> {
 
+	List<Team> findByIdGreaterThanOrderByIdAsc(Integer id, Pageable pageable);
+
 	List<Team> findByNameIgnoreCase(String name);
 
 	List<Team> findByNameContains(String name);
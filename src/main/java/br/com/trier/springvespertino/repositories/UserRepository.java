@@ -3,15 +3,22 @@ package br.com.trier.springvespertino.repositories;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import br.com.trier.springvespertino.models.User;
+import br.com.trier.springvespertino.models.dto.IdNameDTO;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Integer>{
+
+	List<User> findByIdGreaterThanOrderByIdAsc(Integer id, Pageable pageable);
 	
-	List<User> findByNameStartingWithIgnoreCase(String name);
+	@Query("select new br.com.trier.springvespertino.models.dto.IdNameDTO(u.id, u.name) from usuario u")
+	List<IdNameDTO> findAllNames();
+
 	Optional<User> findByEmail(String email);
 	Optional<User> findByName(String name);
 
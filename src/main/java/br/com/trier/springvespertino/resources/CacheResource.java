@@ -0,0 +1,35 @@
+package br.com.trier.springvespertino.resources;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import br.com.trier.springvespertino.config.CacheRegistry;
+import br.com.trier.springvespertino.models.dto.CacheStatsDTO;
+
+@RestController
+@RequestMapping("/caches")
+public class CacheResource {
+
+	@Autowired
+	private CacheRegistry registry;
+
+	@GetMapping
+	public ResponseEntity<List<CacheStatsDTO>> listAll() {
+		return ResponseEntity.ok(registry.getCaches().entrySet().stream()
+				.sorted(Map.Entry.comparingByKey())
+				.map(entry -> {
+					long hits = entry.getValue().getHits();
+					long misses = entry.getValue().getMisses();
+					return new CacheStatsDTO(entry.getKey(), entry.getValue().size(), hits, misses,
+							hits + misses > 0 ? (double) hits / (hits + misses) : 0.0);
+				})
+				.toList());
+	}
+
+}
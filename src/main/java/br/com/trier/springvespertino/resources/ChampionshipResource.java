@@ -11,10 +11,19 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import br.com.trier.springvespertino.config.ConditionalGet;
+import br.com.trier.springvespertino.config.TableVersions;
 import br.com.trier.springvespertino.models.Championship;
+import br.com.trier.springvespertino.models.dto.StandingsDTO;
+import br.com.trier.springvespertino.models.dto.TeamSeasonDTO;
 import br.com.trier.springvespertino.services.ChampionshipService;
+import br.com.trier.springvespertino.services.ChampionshipStandingsService;
+import br.com.trier.springvespertino.services.TeamSeasonService;
+import br.com.trier.springvespertino.utils.KeysetUtils;
 
 @RestController
 @RequestMapping("/championships")
@@ -22,6 +31,15 @@ public class ChampionshipResource {
 	
 	@Autowired
 	private ChampionshipService service;
+
+	@Autowired
+	private ChampionshipStandingsService standingsService;
+
+	@Autowired
+	private TeamSeasonService teamSeasonService;
+
+	@Autowired
+	private ConditionalGet conditionalGet;
 	
 	@PostMapping
 	public ResponseEntity<Championship> insert(@RequestBody Championship championship) {
@@ -30,9 +48,23 @@ public class ChampionshipResource {
 	}
 	
 	@GetMapping("/{id}")
-	public ResponseEntity<Championship> findById(@PathVariable Integer id){
+	public ResponseEntity<Championship> findById(@PathVariable Integer id, WebRequest request){
+		return conditionalGet.get(request, "championships", () -> {
+			Championship championship = service.findById(id);
+			return championship!=null ? ResponseEntity.ok(championship) : ResponseEntity.noContent().build();
+		}, TableVersions.CHAMPIONSHIP);
+	}
+	
+	@GetMapping("/{id}/standings")
+	public ResponseEntity<StandingsDTO> findStandings(@PathVariable Integer id){
 		Championship championship = service.findById(id);
-		return championship!=null ? ResponseEntity.ok(championship) : ResponseEntity.noContent().build();
+		return championship!=null ? ResponseEntity.ok(standingsService.findByChampionship(championship)) : ResponseEntity.noContent().build();
+	}
+	
+	@GetMapping("/{id}/teams")
+	public ResponseEntity<List<TeamSeasonDTO>> findTeamSeasons(@PathVariable Integer id){
+		Championship championship = service.findById(id);
+		return championship!=null ? ResponseEntity.ok(teamSeasonService.findByChampionship(championship)) : ResponseEntity.noContent().build();
 	}
 	
 	@GetMapping("/year/{ano}")
@@ -59,10 +91,18 @@ public class ChampionshipResource {
 		return lista.size()>0 ? ResponseEntity.ok(lista) : ResponseEntity.noContent().build();
 	}
 	
+	@GetMapping("/search")
+	public ResponseEntity<List<Championship>> search(@RequestParam String q, @RequestParam(required = false) Integer limit) {
+		List<Championship> lista = service.search(q, limit);
+		return lista.size()>0 ? ResponseEntity.ok(lista) : ResponseEntity.noContent().build();
+	}
+	
 	@GetMapping
-	public ResponseEntity<List<Championship>> listAll(){
-		List<Championship> lista = service.listAll();
-		return lista.size() > 0 ? ResponseEntity.ok(lista) : ResponseEntity.noContent().build();
+	public ResponseEntity<List<Championship>> listAll(@RequestParam(required = false) Integer after, @RequestParam(required = false) Integer limit, WebRequest request){
+		return conditionalGet.get(request, "championships", () -> {
+			List<Championship> lista = service.listAll(after, limit);
+			return lista.size() > 0 ? KeysetUtils.ok(lista, Championship::getId, limit) : ResponseEntity.noContent().build();
+		}, TableVersions.CHAMPIONSHIP);
 	}
 	
 	@PutMapping("/{id}")
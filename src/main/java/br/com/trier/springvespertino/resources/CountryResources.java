@@ -11,10 +11,17 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import br.com.trier.springvespertino.config.ConditionalGet;
+import br.com.trier.springvespertino.config.TableVersions;
 import br.com.trier.springvespertino.models.Country;
+import br.com.trier.springvespertino.models.dto.BatchResultDTO;
 import br.com.trier.springvespertino.services.CountryService;
+import br.com.trier.springvespertino.utils.BatchUtils;
+import br.com.trier.springvespertino.utils.KeysetUtils;
 
 @RestController
 @RequestMapping("/countries")
@@ -22,6 +29,9 @@ public class CountryResources {
 	
 	@Autowired
 	private CountryService service;
+
+	@Autowired
+	private ConditionalGet conditionalGet;
 	
 	@PostMapping
 	public ResponseEntity<Country> save(@RequestBody Country pais){
@@ -42,16 +52,26 @@ public class CountryResources {
 		return ResponseEntity.ok().build();
 	}
 	
+	@GetMapping(params = "ids")
+	public ResponseEntity<BatchResultDTO<Country>> findAllById(@RequestParam List<Integer> ids) {
+		List<Integer> distinct = BatchUtils.ids(ids);
+		return ResponseEntity.ok(BatchUtils.result(distinct, service.findAllById(distinct), Country::getId));
+	}
+
 	@GetMapping()
-	public ResponseEntity<List<Country>> listAll(){
-		List<Country> paises = service.listAll();
-		return paises.size()>0 ? ResponseEntity.ok(paises) : ResponseEntity.noContent().build();
+	public ResponseEntity<List<Country>> listAll(@RequestParam(required = false) Integer after, @RequestParam(required = false) Integer limit, WebRequest request){
+		return conditionalGet.get(request, "countries", () -> {
+			List<Country> paises = service.listAll(after, limit);
+			return paises.size()>0 ? KeysetUtils.ok(paises, Country::getId, limit) : ResponseEntity.noContent().build();
+		}, TableVersions.COUNTRY);
 	}
 	
 	@GetMapping("/{id}")
-	public ResponseEntity<Country> findById(@PathVariable Integer id){
-		Country pais = service.findById(id);
-		return pais != null ? ResponseEntity.ok(pais) : ResponseEntity.noContent().build();
+	public ResponseEntity<Country> findById(@PathVariable Integer id, WebRequest request){
+		return conditionalGet.get(request, "countries", () -> {
+			Country pais = service.findById(id);
+			return pais != null ? ResponseEntity.ok(pais) : ResponseEntity.noContent().build();
+		}, TableVersions.COUNTRY);
 	}
 
 	@GetMapping("/name/{name}")
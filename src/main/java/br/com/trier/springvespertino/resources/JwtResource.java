@@ -4,6 +4,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -29,7 +30,9 @@ public class JwtResource {
 		Authentication authentication = auth.authenticate(
 				new UsernamePasswordAuthenticationToken(loginDto.getEmail(), loginDto.getPassword()));
 		if (authentication.isAuthenticated()) {
-			return jwtUtil.generateToken(loginDto.getEmail());
+			return jwtUtil.generateToken(loginDto.getEmail(), authentication.getAuthorities().stream()
+					.map(GrantedAuthority::getAuthority)
+					.toList());
 		} else {
 			throw new UsernameNotFoundException("Usuário inválido");
 		}
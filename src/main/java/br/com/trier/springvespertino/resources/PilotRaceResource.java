@@ -1,8 +1,13 @@
 package br.com.trier.springvespertino.resources;
 
+import java.io.IOException;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -11,13 +16,30 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.trier.springvespertino.models.Pilot;
 import br.com.trier.springvespertino.models.PilotRace;
+import br.com.trier.springvespertino.models.Race;
+import br.com.trier.springvespertino.models.dto.BatchResultDTO;
 import br.com.trier.springvespertino.models.dto.PilotRaceDTO;
+import br.com.trier.springvespertino.models.dto.PilotRaceLiveDTO;
+import br.com.trier.springvespertino.models.dto.RaceResultDTO;
 import br.com.trier.springvespertino.services.PilotRaceService;
 import br.com.trier.springvespertino.services.PilotService;
+import br.com.trier.springvespertino.services.RaceLiveService;
 import br.com.trier.springvespertino.services.RaceService;
+import br.com.trier.springvespertino.services.exceptions.IntegrityViolation;
+import br.com.trier.springvespertino.services.exceptions.ObjectNotFound;
+import br.com.trier.springvespertino.utils.BatchUtils;
+import br.com.trier.springvespertino.utils.KeysetUtils;
+import br.com.trier.springvespertino.utils.LiveEventBus;
+import br.com.trier.springvespertino.utils.NdjsonUtils;
 
 @RestController
 @RequestMapping("/pilot-race")
@@ -33,6 +55,12 @@ public class PilotRaceResource {
     @Autowired
     RaceService corridaService;
 
+    @Autowired
+    ObjectMapper mapper;
+
+    @Autowired
+    RaceLiveService liveService;
+
     @PostMapping
     public ResponseEntity<PilotRaceDTO> insert(@RequestBody PilotRaceDTO pilotoCorridaDTO) {
     	return ResponseEntity.ok(service.insert(new PilotRace(pilotoCorridaDTO,
@@ -41,14 +69,52 @@ public class PilotRaceResource {
     			.toDTO());
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<List<PilotRaceDTO>> insertBatch(@RequestBody RaceResultDTO resultDTO) {
+    	if (resultDTO.getResults() == null || resultDTO.getResults().isEmpty()) {
+    		throw new IntegrityViolation("Nenhum resultado informado!");
+    	}
+    	List<Integer> otherRaces = resultDTO.getResults().stream().map(PilotRaceDTO::getIdRace)
+    			.filter(id -> id != null && !id.equals(resultDTO.getIdRace())).distinct().toList();
+    	if (!otherRaces.isEmpty()) {
+    		throw new IntegrityViolation("Resultado de outra corrida %s no lote da corrida %s!".formatted(otherRaces,
+    				resultDTO.getIdRace()));
+    	}
+    	Race race = corridaService.findById(resultDTO.getIdRace());
+    	List<Integer> ids = resultDTO.getResults().stream().map(PilotRaceDTO::getIdPilot).distinct().toList();
+    	Map<Integer, Pilot> pilots = pilotoService.findAllById(ids).stream()
+    			.collect(Collectors.toMap(Pilot::getId, Function.identity()));
+    	List<Integer> missing = ids.stream().filter(id -> !pilots.containsKey(id)).toList();
+    	if (!missing.isEmpty()) {
+    		throw new ObjectNotFound("Pilot %s não existe".formatted(missing));
+    	}
+    	List<PilotRace> pilotRaces = resultDTO.getResults().stream()
+    			.map(dto -> new PilotRace(null, dto.getPlacement(), pilots.get(dto.getIdPilot()), race))
+    			.toList();
+    	return ResponseEntity.ok(service.insertAll(pilotRaces).stream().map(PilotRace::toDTO).toList());
+    }
+
+    @GetMapping(value = "/export", produces = NdjsonUtils.NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> export() {
+    	return ResponseEntity.ok()
+    			.contentType(NdjsonUtils.NDJSON)
+    			.body(NdjsonUtils.<PilotRaceDTO>body(mapper, service::exportAll));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<PilotRaceDTO> findById(@PathVariable Integer id) {
-        return ResponseEntity.ok(service.findById(id).toDTO());
+        return ResponseEntity.ok(service.findDTOById(id));
+    }
+
+    @GetMapping(params = "ids")
+    public ResponseEntity<BatchResultDTO<PilotRaceDTO>> findAllById(@RequestParam List<Integer> ids) {
+    	List<Integer> distinct = BatchUtils.ids(ids);
+    	return ResponseEntity.ok(BatchUtils.result(distinct, service.findAllDTOById(distinct), PilotRaceDTO::getId));
     }
 
     @GetMapping
-    public ResponseEntity<List<PilotRaceDTO>> listAll() {
-    	return ResponseEntity.ok(service.listAll().stream().map(PilotRace::toDTO).toList());
+    public ResponseEntity<List<PilotRaceDTO>> listAll(@RequestParam(required = false) Integer after, @RequestParam(required = false) Integer limit) {
+    	return KeysetUtils.ok(service.listAllDTO(after, limit), PilotRaceDTO::getId, limit);
     }
 
     @PutMapping("/{id}")
@@ -69,28 +135,65 @@ public class PilotRaceResource {
     
     @GetMapping("/placement/{colocacao}")
     public ResponseEntity<List<PilotRaceDTO>> findByColocacao(@PathVariable Integer colocacao) {
-        return ResponseEntity.ok(service.findByPlacement(colocacao).stream().map(PilotRace::toDTO).toList());
+        return ResponseEntity.ok(service.findDTOByPlacement(colocacao));
     }
     
     @GetMapping("/pilot/{idPiloto}")
     public ResponseEntity<List<PilotRaceDTO>> findByPiloto(@PathVariable Integer idPiloto) {
-        return ResponseEntity.ok(service.findByPilot(pilotoService.findById(idPiloto)).stream().map(PilotRace::toDTO).toList());
+        return ResponseEntity.ok(service.findDTOByPilot(idPiloto));
     }
     
     @GetMapping("/race/{idCorrida}")
     public ResponseEntity<List<PilotRaceDTO>> findByCorridaOrderByColocacaoAsc(@PathVariable Integer idCorrida) {
-        return ResponseEntity.ok(service.findByRaceOrderByPlacementAsc(corridaService.findById(idCorrida)).stream().map(PilotRace::toDTO).toList());
+        return ResponseEntity.ok(service.findDTOByRaceOrderByPlacementAsc(idCorrida));
+    }
+
+    // Envia a classificação atual ("snapshot") e depois cada resultado gravado na corrida;
+    // eventos gravados durante a consulta do snapshot podem repetir o que ele já contém
+    @GetMapping(value = "/race/{idCorrida}/live", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter live(@PathVariable Integer idCorrida) throws IOException {
+    	corridaService.findDTOById(idCorrida);
+    	SseEmitter emitter = new SseEmitter();
+    	LiveEventBus<Integer, PilotRaceLiveDTO>.Subscription subscription = liveService.subscribe(idCorrida,
+    			new LiveEventBus.Sink<>() {
+    				@Override
+    				public void send(PilotRaceLiveDTO event) throws IOException {
+    					emitter.send(SseEmitter.event().name(event.getType()).data(event));
+    				}
+
+    				@Override
+    				public void heartbeat() throws IOException {
+    					emitter.send(SseEmitter.event().comment("heartbeat"));
+    				}
+
+    				// O cliente reconecta e recebe um snapshot novo
+    				@Override
+    				public void stalled() {
+    					emitter.complete();
+    				}
+    			});
+    	emitter.onCompletion(() -> liveService.unsubscribe(subscription));
+    	emitter.onTimeout(() -> liveService.unsubscribe(subscription));
+    	emitter.onError(e -> liveService.unsubscribe(subscription));
+    	// Sem emitter devolvido nenhum callback acima roda: a falha precisa liberar a inscrição aqui
+    	try {
+    		emitter.send(SseEmitter.event().name("snapshot").data(service.findDTOByRaceOrderByPlacementAscOrEmpty(idCorrida)));
+    		subscription.start();
+    	} catch (IOException | RuntimeException e) {
+    		liveService.unsubscribe(subscription);
+    		throw e;
+    	}
+    	return emitter;
     }
     
     @GetMapping("/placement-race/{colocacaoInicial}/{colocacaoFinal}/{idCorrida}")
     public ResponseEntity<List<PilotRaceDTO>> findByColocacaoBetweenAndCorrida(@PathVariable Integer colocacaoInicial, @PathVariable Integer colocacaoFinal, @PathVariable Integer idCorrida) {
-        return ResponseEntity.ok(
-        		service.findByPlacementBetweenAndRace(colocacaoInicial, colocacaoFinal, corridaService.findById(idCorrida)).stream().map(PilotRace::toDTO).toList());
+        return ResponseEntity.ok(service.findDTOByPlacementBetweenAndRace(colocacaoInicial, colocacaoFinal, idCorrida));
     }
     
     @GetMapping("/pilot-race/{idPiloto}/{idCorrida}")
     public ResponseEntity<PilotRaceDTO> findByPilotoAndCorrida(@PathVariable Integer idPiloto, @PathVariable Integer idCorrida) {
-    	return ResponseEntity.ok(service.findByPilotAndRace(pilotoService.findById(idPiloto), corridaService.findById(idCorrida)).toDTO());
+    	return ResponseEntity.ok(service.findDTOByPilotAndRace(idPiloto, idCorrida));
     }
 
 }
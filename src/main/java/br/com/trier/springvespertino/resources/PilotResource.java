@@ -11,12 +11,18 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import br.com.trier.springvespertino.models.Pilot;
+import br.com.trier.springvespertino.models.dto.BatchResultDTO;
+import br.com.trier.springvespertino.models.dto.PilotStatsDTO;
 import br.com.trier.springvespertino.services.CountryService;
 import br.com.trier.springvespertino.services.PilotService;
+import br.com.trier.springvespertino.services.PilotStatsService;
 import br.com.trier.springvespertino.services.TeamService;
+import br.com.trier.springvespertino.utils.BatchUtils;
+import br.com.trier.springvespertino.utils.KeysetUtils;
 
 @RestController
 @RequestMapping("/pilot")
@@ -31,11 +37,19 @@ public class PilotResource {
 	@Autowired
 	private TeamService teamService;
 
+	@Autowired
+	private PilotStatsService statsService;
+
 	@GetMapping("/{id}")
 	public ResponseEntity<Pilot> findById(@PathVariable Integer id) {
 		return ResponseEntity.ok(service.findById(id));
 	}
 
+	@GetMapping("/{id}/stats")
+	public ResponseEntity<PilotStatsDTO> findStats(@PathVariable Integer id) {
+		return ResponseEntity.ok(statsService.findByPilot(service.findById(id)));
+	}
+
 	@PostMapping
 	ResponseEntity<Pilot> insert(@RequestBody Pilot pilot) {
 		countryService.findById(pilot.getCountry().getId());
@@ -43,9 +57,15 @@ public class PilotResource {
 		return ResponseEntity.ok(service.insert(pilot));
 	}
 
+	@GetMapping(params = "ids")
+	public ResponseEntity<BatchResultDTO<Pilot>> findAllById(@RequestParam List<Integer> ids) {
+		List<Integer> distinct = BatchUtils.ids(ids);
+		return ResponseEntity.ok(BatchUtils.result(distinct, service.findAllById(distinct), Pilot::getId));
+	}
+
 	@GetMapping
-	ResponseEntity<List<Pilot>> listAll() {
-		return ResponseEntity.ok(service.listAll());
+	ResponseEntity<List<Pilot>> listAll(@RequestParam(required = false) Integer after, @RequestParam(required = false) Integer limit) {
+		return KeysetUtils.ok(service.listAll(after, limit), Pilot::getId, limit);
 	}
 
 	@PutMapping("/{id}")
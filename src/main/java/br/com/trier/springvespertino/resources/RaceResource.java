@@ -13,15 +13,25 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.trier.springvespertino.config.ConditionalGet;
+import br.com.trier.springvespertino.config.TableVersions;
 import br.com.trier.springvespertino.models.Championship;
 import br.com.trier.springvespertino.models.Race;
 import br.com.trier.springvespertino.models.Speedway;
+import br.com.trier.springvespertino.models.dto.BatchResultDTO;
 import br.com.trier.springvespertino.models.dto.RaceDTO;
 import br.com.trier.springvespertino.services.ChampionshipService;
 import br.com.trier.springvespertino.services.RaceService;
 import br.com.trier.springvespertino.services.SpeedwayService;
+import br.com.trier.springvespertino.utils.BatchUtils;
 import br.com.trier.springvespertino.utils.DateUtils;
+import br.com.trier.springvespertino.utils.KeysetUtils;
+import br.com.trier.springvespertino.utils.NdjsonUtils;
 
 @RestController
 @RequestMapping("/racers")
@@ -36,9 +46,22 @@ public class RaceResource {
 	@Autowired
 	private ChampionshipService championshipService;
 
+	@Autowired
+	private ObjectMapper mapper;
+
+	@Autowired
+	private ConditionalGet conditionalGet;
+
+	@GetMapping(value = "/export", produces = NdjsonUtils.NDJSON_VALUE)
+	public ResponseEntity<StreamingResponseBody> export() {
+		return ResponseEntity.ok()
+				.contentType(NdjsonUtils.NDJSON)
+				.body(NdjsonUtils.<RaceDTO>body(mapper, service::exportAll));
+	}
+
 	@GetMapping("/{id}")
 	public ResponseEntity<RaceDTO> findById(@PathVariable Integer id) {
-		return ResponseEntity.ok(service.findById(id).toDTO());
+		return ResponseEntity.ok(service.findDTOById(id));
 	}
 
 	@PostMapping
@@ -50,12 +73,15 @@ public class RaceResource {
 			.toDTO());
 	}
 
+	@GetMapping(params = "ids")
+	public ResponseEntity<BatchResultDTO<RaceDTO>> findAllById(@RequestParam List<Integer> ids) {
+		List<Integer> distinct = BatchUtils.ids(ids);
+		return ResponseEntity.ok(BatchUtils.result(distinct, service.findAllDTOById(distinct), RaceDTO::getId));
+	}
+
 	@GetMapping
-	ResponseEntity<List<RaceDTO>> listAll() {
-		return ResponseEntity.ok(service.listAll()
-				.stream()
-				.map((race) -> race.toDTO())
-				.toList());
+	ResponseEntity<List<RaceDTO>> listAll(@RequestParam(required = false) Integer after, @RequestParam(required = false) Integer limit) {
+		return KeysetUtils.ok(service.listAllDTO(after, limit), RaceDTO::getId, limit);
 	}
 
 	@PutMapping("/{id}")
@@ -75,26 +101,18 @@ public class RaceResource {
 
 	@GetMapping("/date")
 	ResponseEntity<List<RaceDTO>> findByDate(@RequestParam String date) {
-		return ResponseEntity.ok(service.findByDate(DateUtils.strToZonedDateTime(date))
-				.stream()
-				.map(Race::toDTO)
-				.toList());
+		return ResponseEntity.ok(service.findDTOByDate(DateUtils.strToZonedDateTime(date)));
 	}
 
 	@GetMapping("/speedway/{idSpeedway}")
 	ResponseEntity<List<RaceDTO>> findBySpeedway(@PathVariable Integer idSpeedway) {
-		return ResponseEntity.ok(service.findBySpeedway(speedwayService.findById(idSpeedway))
-				.stream()
-				.map(Race::toDTO)
-				.toList());
+		return ResponseEntity.ok(service.findDTOBySpeedway(idSpeedway));
 	}
 	
 	@GetMapping("/championship/{idchampionship}")
-	ResponseEntity<List<RaceDTO>> findByChampionship(@PathVariable Integer idchampionship) {
-		return ResponseEntity.ok(service.findByChampionship(championshipService.findById(idchampionship))
-				.stream()
-				.map(Race::toDTO)
-				.toList());
+	ResponseEntity<List<RaceDTO>> findByChampionship(@PathVariable Integer idchampionship, WebRequest request) {
+		return conditionalGet.get(request, "racers", () -> ResponseEntity.ok(service.findDTOByChampionship(idchampionship)),
+				TableVersions.RACE, TableVersions.SPEEDWAY, TableVersions.CHAMPIONSHIP);
 	}
 
 }
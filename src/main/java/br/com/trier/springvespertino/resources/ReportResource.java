@@ -1,9 +1,9 @@
 package br.com.trier.springvespertino.resources;
 
 import java.util.List;
-import java.util.stream.Stream;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -17,7 +17,6 @@ import br.com.trier.springvespertino.models.dto.RaceDTO;
 import br.com.trier.springvespertino.services.CountryService;
 import br.com.trier.springvespertino.services.RaceService;
 import br.com.trier.springvespertino.services.SpeedwayService;
-import br.com.trier.springvespertino.services.exceptions.ObjectNotFound;
 
 @RestController
 @RequestMapping("/reports")
@@ -32,28 +31,31 @@ public class ReportResource {
 	@Autowired
 	private RaceService raceService;
 	
+	@Value("${reports.races-by-country-year.fan-out:false}")
+	private boolean fanOut;
 	
 	@GetMapping("/races-by-country-year/{countryId}/{year}")
 	public ResponseEntity<RaceCountryYearDTO> findRaceByCountryAndYear(@PathVariable Integer countryId, @PathVariable Integer year){
 		
 		Country country = countryService.findById(countryId);
 		
-		List<RaceDTO> raceDTOs = speedwayService.findByCountryOrderBySizeDesc(country).stream()
-		        .flatMap(speedway -> {
-		            try {
-		                return raceService.findBySpeedway(speedway).stream();
-		            } catch (ObjectNotFound e) {
-		                return Stream.empty();
-		            }
-		        })
-		        .filter(race -> race.getDate().getYear() == year)
-		        .map(Race::toDTO)
-		        .toList();
+		List<RaceDTO> raceDTOs = fanOut ? findBySpeedwayFanOut(country, year) : raceService.findByCountryAndYear(country, year);
+		if (raceDTOs.isEmpty()) {
+			// País sem pistas continua respondendo 404, como no relatório original
+			speedwayService.findByCountryOrderBySizeDesc(country);
+		}
 		
-				
 		return ResponseEntity.ok(new RaceCountryYearDTO(year, country.getName(), raceDTOs.size(), raceDTOs));
 		
-		
+	}
+
+	// Caminho antigo (uma consulta por pista), mantido apenas como fallback
+	private List<RaceDTO> findBySpeedwayFanOut(Country country, Integer year) {
+		return speedwayService.findByCountryOrderBySizeDescOrEmpty(country).stream()
+		        .flatMap(speedway -> raceService.findBySpeedwayOrEmpty(speedway).stream())
+		        .filter(race -> race.getDate().getYear() == year)
+		        .map(Race::toDTO)
+		        .toList();
 	}
 
 }
@@ -11,11 +11,15 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import br.com.trier.springvespertino.models.Speedway;
+import br.com.trier.springvespertino.models.dto.BatchResultDTO;
 import br.com.trier.springvespertino.services.CountryService;
 import br.com.trier.springvespertino.services.SpeedwayService;
+import br.com.trier.springvespertino.utils.BatchUtils;
+import br.com.trier.springvespertino.utils.KeysetUtils;
 
 @RestController
 @RequestMapping("/speedway")
@@ -38,9 +42,15 @@ public class SpeedwayResource {
 		return ResponseEntity.ok(service.insert(speedway));
 	}
 
+	@GetMapping(params = "ids")
+	public ResponseEntity<BatchResultDTO<Speedway>> findAllById(@RequestParam List<Integer> ids) {
+		List<Integer> distinct = BatchUtils.ids(ids);
+		return ResponseEntity.ok(BatchUtils.result(distinct, service.findAllById(distinct), Speedway::getId));
+	}
+
 	@GetMapping
-	ResponseEntity<List<Speedway>> listAll() {
-		return ResponseEntity.ok(service.listAll());
+	ResponseEntity<List<Speedway>> listAll(@RequestParam(required = false) Integer after, @RequestParam(required = false) Integer limit) {
+		return KeysetUtils.ok(service.listAll(after, limit), Speedway::getId, limit);
 	}
 
 	@PutMapping("/{id}")
@@ -11,10 +11,14 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import br.com.trier.springvespertino.models.Team;
+import br.com.trier.springvespertino.models.dto.BatchResultDTO;
 import br.com.trier.springvespertino.services.TeamService;
+import br.com.trier.springvespertino.utils.BatchUtils;
+import br.com.trier.springvespertino.utils.KeysetUtils;
 
 @RestController
 @RequestMapping("/teams")
@@ -29,10 +33,16 @@ public class TeamResource {
 		return newEquipe != null ? ResponseEntity.ok(newEquipe) : ResponseEntity.badRequest().build();
 	}
 	
+	@GetMapping(params = "ids")
+	public ResponseEntity<BatchResultDTO<Team>> findAllById(@RequestParam List<Integer> ids) {
+		List<Integer> distinct = BatchUtils.ids(ids);
+		return ResponseEntity.ok(BatchUtils.result(distinct, service.findAllById(distinct), Team::getId));
+	}
+
 	@GetMapping
-	public ResponseEntity<List<Team>> listarTodos(){
-		List<Team> lista = service.listAll();
-		return lista != null ? ResponseEntity.ok(lista) : ResponseEntity.noContent().build();
+	public ResponseEntity<List<Team>> listarTodos(@RequestParam(required = false) Integer after, @RequestParam(required = false) Integer limit){
+		List<Team> lista = service.listAll(after, limit);
+		return lista != null ? KeysetUtils.ok(lista, Team::getId, limit) : ResponseEntity.noContent().build();
 	}
 	
 	@GetMapping ("/{id}")
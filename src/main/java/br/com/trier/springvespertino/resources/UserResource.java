@@ -12,11 +12,13 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import br.com.trier.springvespertino.models.User;
 import br.com.trier.springvespertino.models.dto.UserDTO;
 import br.com.trier.springvespertino.services.UserService;
+import br.com.trier.springvespertino.utils.KeysetUtils;
 
 @RestController
 @RequestMapping("/users")
@@ -47,10 +49,10 @@ public class UserResource {
 	
 //	@Secured({"ROLE_USER"})
 	@GetMapping
-	public ResponseEntity<List<UserDTO>> listAll(){
-		return ResponseEntity.ok(service.listAll().stream()
+	public ResponseEntity<List<UserDTO>> listAll(@RequestParam(required = false) Integer after, @RequestParam(required = false) Integer limit){
+		return KeysetUtils.ok(service.listAll(after, limit).stream()
 				.map((user) -> user.toDTO())
-				.toList());
+				.toList(), UserDTO::getId, limit);
 	}
 	
 	@Secured({"ROLE_ADMIN"})
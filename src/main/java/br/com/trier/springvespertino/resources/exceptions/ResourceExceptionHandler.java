@@ -2,6 +2,7 @@ package br.com.trier.springvespertino.resources.exceptions;
 
 import java.time.LocalDateTime;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -9,19 +10,30 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 
 import br.com.trier.springvespertino.services.exceptions.IntegrityViolation;
 import br.com.trier.springvespertino.services.exceptions.ObjectNotFound;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.http.HttpServletRequest;
 
 @ControllerAdvice
 public class ResourceExceptionHandler {
+
+	@Autowired
+	private MeterRegistry registry;
+
+	private void count(RuntimeException ex, HttpStatus status) {
+		registry.counter("api.exceptions", "exception", ex.getClass().getSimpleName(), "status", String.valueOf(status.value()))
+				.increment();
+	}
 	
 	@ExceptionHandler(ObjectNotFound.class)
 	public ResponseEntity<StandardError> getObjectNotFoundExcpetion(ObjectNotFound ex, HttpServletRequest req){
+		count(ex, HttpStatus.NOT_FOUND);
 		StandardError error = new StandardError(LocalDateTime.now(), HttpStatus.NOT_FOUND.value(), ex.getMessage(), req.getRequestURI());
 		return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
 	}
 	
 	@ExceptionHandler(IntegrityViolation.class)
 	public ResponseEntity<StandardError> getIntegrityViolationExcpetion(IntegrityViolation ex, HttpServletRequest req){
+		count(ex, HttpStatus.BAD_REQUEST);
 		StandardError error = new StandardError(LocalDateTime.now(), HttpStatus.BAD_REQUEST.value(), ex.getMessage(), req.getRequestURI());
 		return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
 	}
@@ -12,6 +12,8 @@ public interface ChampionshipService {
 
 	List<Championship> listAll();
 
+	List<Championship> listAll(Integer after, Integer limit);
+
 	Championship update(Championship championship);
 
 	void delete(Integer id);
@@ -23,4 +25,8 @@ public interface ChampionshipService {
 	List<Championship> findByDescriptionContainsIgnoreCase(String descricao);
 
 	List<Championship> findByescriptionContainsIgnoreCaseAndAnoEquals(String descricao, Integer ano);
+
+	List<Championship> search(String query, Integer limit);
+
+	void rebuildSearchIndex();
 }
@@ -0,0 +1,14 @@
+package br.com.trier.springvespertino.services;
+
+import br.com.trier.springvespertino.models.Championship;
+import br.com.trier.springvespertino.models.dto.StandingsDTO;
+
+public interface ChampionshipStandingsService {
+
+	StandingsDTO findByChampionship(Championship championship);
+
+	void evict(Integer championshipId);
+
+	void evictAll();
+
+}
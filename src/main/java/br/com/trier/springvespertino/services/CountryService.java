@@ -1,5 +1,6 @@
 package br.com.trier.springvespertino.services;
 
+import java.util.Collection;
 import java.util.List;
 
 import br.com.trier.springvespertino.models.Country;
@@ -14,8 +15,12 @@ public interface CountryService {
 
 	List<Country> listAll();
 
+	List<Country> listAll(Integer after, Integer limit);
+
 	Country findById(Integer id);
 
+	List<Country> findAllById(Collection<Integer> ids);
+
 	List<Country> findByNomeEqualsIgnoreCase(String nome);
 
 }
@@ -1,19 +1,32 @@
 package br.com.trier.springvespertino.services;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 
 import br.com.trier.springvespertino.models.Pilot;
 import br.com.trier.springvespertino.models.PilotRace;
 import br.com.trier.springvespertino.models.Race;
+import br.com.trier.springvespertino.models.dto.PilotRaceDTO;
 
 public interface PilotRaceService {
 
 	PilotRace findById(Integer id);
 
+	PilotRaceDTO findDTOById(Integer id);
+
+	List<PilotRaceDTO> findAllDTOById(Collection<Integer> ids);
+
 	PilotRace insert(PilotRace pilotRace);
 
+	List<PilotRace> insertAll(List<PilotRace> pilotRaces);
+
 	List<PilotRace> listAll();
 
+	List<PilotRace> listAll(Integer after, Integer limit);
+
+	List<PilotRaceDTO> listAllDTO(Integer after, Integer limit);
+
 	PilotRace update(PilotRace pilotRace);
 
 	void delete(Integer id);
@@ -28,4 +41,18 @@ public interface PilotRaceService {
 
 	PilotRace findByPilotAndRace(Pilot pilot, Race race);
 
+	List<PilotRaceDTO> findDTOByPlacement(Integer placement);
+
+	List<PilotRaceDTO> findDTOByPilot(Integer pilotId);
+
+	List<PilotRaceDTO> findDTOByRaceOrderByPlacementAsc(Integer raceId);
+
+	List<PilotRaceDTO> findDTOByRaceOrderByPlacementAscOrEmpty(Integer raceId);
+
+	List<PilotRaceDTO> findDTOByPlacementBetweenAndRace(Integer placementIn, Integer placementFin, Integer raceId);
+
+	PilotRaceDTO findDTOByPilotAndRace(Integer pilotId, Integer raceId);
+
+	void exportAll(Consumer<PilotRaceDTO> consumer);
+
 }
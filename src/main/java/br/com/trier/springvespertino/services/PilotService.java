@@ -1,5 +1,6 @@
 package br.com.trier.springvespertino.services;
 
+import java.util.Collection;
 import java.util.List;
 
 import br.com.trier.springvespertino.models.Country;
@@ -10,10 +11,14 @@ public interface PilotService {
 
 	Pilot findById(Integer id);
 
+	List<Pilot> findAllById(Collection<Integer> ids);
+
 	Pilot insert(Pilot pilot);
 
 	List<Pilot> listAll();
 
+	List<Pilot> listAll(Integer after, Integer limit);
+
 	Pilot update(Pilot pilot);
 
 	void delete(Integer id);
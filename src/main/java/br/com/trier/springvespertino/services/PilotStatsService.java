@@ -0,0 +1,17 @@
+package br.com.trier.springvespertino.services;
+
+import br.com.trier.springvespertino.models.Pilot;
+import br.com.trier.springvespertino.models.Race;
+import br.com.trier.springvespertino.models.dto.PilotStatsDTO;
+
+public interface PilotStatsService {
+
+	PilotStatsDTO findByPilot(Pilot pilot);
+
+	void evict(Integer pilotId);
+
+	void evictByRace(Race race);
+
+	void rebuildAll();
+
+}
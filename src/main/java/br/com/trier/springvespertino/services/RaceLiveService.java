@@ -0,0 +1,12 @@
+package br.com.trier.springvespertino.services;
+
+import br.com.trier.springvespertino.models.dto.PilotRaceLiveDTO;
+import br.com.trier.springvespertino.utils.LiveEventBus;
+
+public interface RaceLiveService {
+
+	LiveEventBus<Integer, PilotRaceLiveDTO>.Subscription subscribe(Integer raceId, LiveEventBus.Sink<PilotRaceLiveDTO> sink);
+
+	void unsubscribe(LiveEventBus<Integer, PilotRaceLiveDTO>.Subscription subscription);
+
+}
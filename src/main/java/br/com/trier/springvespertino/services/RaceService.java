@@ -1,20 +1,32 @@
 package br.com.trier.springvespertino.services;
 
 import java.time.ZonedDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 
 import br.com.trier.springvespertino.models.Championship;
+import br.com.trier.springvespertino.models.Country;
 import br.com.trier.springvespertino.models.Race;
 import br.com.trier.springvespertino.models.Speedway;
+import br.com.trier.springvespertino.models.dto.RaceDTO;
 
 public interface RaceService {
 
 	Race findById(Integer id);
 
+	RaceDTO findDTOById(Integer id);
+
+	List<RaceDTO> findAllDTOById(Collection<Integer> ids);
+
 	Race insert(Race race);
 
 	List<Race> listAll();
 
+	List<Race> listAll(Integer after, Integer limit);
+
+	List<RaceDTO> listAllDTO(Integer after, Integer limit);
+
 	Race update(Race race);
 
 	void delete(Integer id);
@@ -23,6 +35,18 @@ public interface RaceService {
 
 	List<Race> findBySpeedway(Speedway speedway);
 
+	List<Race> findBySpeedwayOrEmpty(Speedway speedway);
+
 	List<Race> findByChampionship(Championship championship);
 
+	List<RaceDTO> findDTOByDate(ZonedDateTime date);
+
+	List<RaceDTO> findDTOBySpeedway(Integer speedwayId);
+
+	List<RaceDTO> findDTOByChampionship(Integer championshipId);
+
+	List<RaceDTO> findByCountryAndYear(Country country, Integer year);
+
+	void exportAll(Consumer<RaceDTO> consumer);
+
 }
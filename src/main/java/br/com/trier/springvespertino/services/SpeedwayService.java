@@ -1,5 +1,6 @@
 package br.com.trier.springvespertino.services;
 
+import java.util.Collection;
 import java.util.List;
 
 import br.com.trier.springvespertino.models.Country;
@@ -9,18 +10,26 @@ public interface SpeedwayService {
 
 	Speedway findById(Integer id);
 
+	List<Speedway> findAllById(Collection<Integer> ids);
+
 	Speedway insert(Speedway speedway);
 
 	List<Speedway> listAll();
 
+	List<Speedway> listAll(Integer after, Integer limit);
+
 	Speedway update(Speedway speedway);
 
 	void delete(Integer id);
 
+	void evictAll();
+
 	List<Speedway> findByNameStartsWithIgnoreCase(String name);
 
 	List<Speedway> findBySizeBetween(Integer sizeIn, Integer sizeFin);
 
 	List<Speedway> findByCountryOrderBySizeDesc(Country country);
 
+	List<Speedway> findByCountryOrderBySizeDescOrEmpty(Country country);
+
 }
@@ -0,0 +1,18 @@
+package br.com.trier.springvespertino.services;
+
+import java.util.List;
+
+import br.com.trier.springvespertino.models.Championship;
+import br.com.trier.springvespertino.models.dto.TeamSeasonDTO;
+
+public interface TeamSeasonService {
+
+	List<TeamSeasonDTO> findByChampionship(Championship championship);
+
+	void evict(Integer championshipId);
+
+	void evictTeam(Integer teamId);
+
+	void evictAll();
+
+}
@@ -1,5 +1,6 @@
 package br.com.trier.springvespertino.services;
 
+import java.util.Collection;
 import java.util.List;
 
 import br.com.trier.springvespertino.models.Team;
@@ -10,8 +11,12 @@ public interface TeamService {
 
 	List<Team> listAll();
 
+	List<Team> listAll(Integer after, Integer limit);
+
 	Team findById(Integer id);
 
+	List<Team> findAllById(Collection<Integer> ids);
+
 	Team update(Team team);
 
 	void delete(Integer id);
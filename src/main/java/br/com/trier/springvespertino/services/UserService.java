@@ -11,6 +11,8 @@ public interface UserService {
 	User insert(User user);
 
 	List<User> listAll();
+
+	List<User> listAll(Integer after, Integer limit);
 	
 	User update(User user);
 	
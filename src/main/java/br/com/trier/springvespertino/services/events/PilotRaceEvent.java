@@ -0,0 +1,17 @@
+package br.com.trier.springvespertino.services.events;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Publicado pelo PilotRaceService a cada escrita em piloto_corrida.
+ * before é nulo em inserções e after é nulo em exclusões.
+ */
+@Getter
+@AllArgsConstructor
+public class PilotRaceEvent {
+
+	private PilotRaceSnapshot before;
+	private PilotRaceSnapshot after;
+
+}
@@ -0,0 +1,33 @@
+package br.com.trier.springvespertino.services.events;
+
+import br.com.trier.springvespertino.models.PilotRace;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class PilotRaceSnapshot {
+
+	private Integer id;
+	private Integer placement;
+	private Integer pilotId;
+	private String pilotName;
+	private Integer teamId;
+	private String teamName;
+	private Integer raceId;
+	private Integer championshipId;
+	private Integer speedwayId;
+
+	public static PilotRaceSnapshot of(PilotRace pilotRace) {
+		return new PilotRaceSnapshot(pilotRace.getId(),
+				pilotRace.getPlacement(),
+				pilotRace.getPilot().getId(),
+				pilotRace.getPilot().getName(),
+				pilotRace.getPilot().getTeam().getId(),
+				pilotRace.getPilot().getTeam().getName(),
+				pilotRace.getRace().getId(),
+				pilotRace.getRace().getChampionship().getId(),
+				pilotRace.getRace().getSpeedway().getId());
+	}
+
+}
@@ -2,8 +2,9 @@ package br.com.trier.springvespertino.services.exceptions;
 
 public class IntegrityViolation extends RuntimeException{
 	
+	// Sem stack trace: usada como resposta ao cliente, nunca para diagnóstico
 	public IntegrityViolation(String message) {
-		super(message);
+		super(message, null, false, false);
 	}
 
 }
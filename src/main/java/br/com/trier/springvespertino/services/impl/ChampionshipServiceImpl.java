@@ -4,12 +4,23 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
+import br.com.trier.springvespertino.config.CacheRegistry;
+import br.com.trier.springvespertino.config.TableVersions;
 import br.com.trier.springvespertino.models.Championship;
 import br.com.trier.springvespertino.repositories.ChampionshipRepository;
 import br.com.trier.springvespertino.services.ChampionshipService;
+import br.com.trier.springvespertino.services.ChampionshipStandingsService;
+import br.com.trier.springvespertino.services.TeamSeasonService;
 import br.com.trier.springvespertino.services.exceptions.IntegrityViolation;
+import br.com.trier.springvespertino.utils.BoundedCache;
+import br.com.trier.springvespertino.utils.KeysetUtils;
+import br.com.trier.springvespertino.utils.PrefixIndex;
+import br.com.trier.springvespertino.utils.TokenIndex;
 
 @Service
 public class ChampionshipServiceImpl implements ChampionshipService {
@@ -17,6 +28,28 @@ public class ChampionshipServiceImpl implements ChampionshipService {
 	@Autowired
 	private ChampionshipRepository repository;
 
+	@Autowired
+	private TableVersions tableVersions;
+
+	@Autowired
+	private ChampionshipStandingsService standingsService;
+
+	@Autowired
+	private TeamSeasonService teamSeasonService;
+
+	@Value("${search.text.max-results:50}")
+	private int maxResults;
+
+	private final BoundedCache<Integer, Championship> cache;
+
+	private final TokenIndex descriptionIndex = new TokenIndex();
+
+	public ChampionshipServiceImpl(CacheRegistry registry, @Value("${reference-cache.size:1000}") int size,
+			@Value("${reference-cache.ttl-seconds:3600}") long ttlSeconds) {
+		this.cache = registry.create("championships", size, ttlSeconds * 1000,
+				championship -> new Championship(championship.getId(), championship.getDescription(), championship.getYear()));
+	}
+
 	private void validYear(Championship championship) {
 		if (championship.getYear() == null) {
 			throw new IntegrityViolation("Ano não pode ser nulo");
@@ -28,13 +61,24 @@ public class ChampionshipServiceImpl implements ChampionshipService {
 
 	@Override
 	public Championship findById(Integer id) {
-		return repository.findById(id).orElse(null);
+		Championship cached = cache.get(id);
+		if (cached == null) {
+			long generation = cache.generation();
+			cached = repository.findById(id).orElse(null);
+			if (cached != null) {
+				cache.putIfCurrent(id, cached, generation);
+			}
+		}
+		return cached;
 	}
 
 	@Override
 	public Championship insert(Championship championship) {
 		validYear(championship);
-		return repository.save(championship);
+		Championship saved = repository.save(championship);
+		tableVersions.bump(TableVersions.CHAMPIONSHIP);
+		descriptionIndex.put(saved.getId(), saved.getDescription());
+		return saved;
 	}
 
 	@Override
@@ -42,10 +86,21 @@ public class ChampionshipServiceImpl implements ChampionshipService {
 		return repository.findAll();
 	}
 
+	@Override
+	public List<Championship> listAll(Integer after, Integer limit) {
+		return repository.findByIdGreaterThanOrderByIdAsc(KeysetUtils.after(after), KeysetUtils.page(limit));
+	}
+
 	@Override
 	public Championship update(Championship championship) {
 		validYear(championship);
-		return repository.save(championship);
+		Championship saved = repository.save(championship);
+		tableVersions.bump(TableVersions.CHAMPIONSHIP);
+		cache.invalidate(championship.getId());
+		descriptionIndex.put(saved.getId(), saved.getDescription());
+		// Os agregados das equipes guardam o ano do campeonato
+		teamSeasonService.evict(championship.getId());
+		return saved;
 	}
 
 	@Override
@@ -53,6 +108,11 @@ public class ChampionshipServiceImpl implements ChampionshipService {
 		Championship championship = findById(id);
 		if (championship != null) {
 			repository.delete(championship);
+			tableVersions.bump(TableVersions.CHAMPIONSHIP);
+			cache.invalidate(id);
+			descriptionIndex.remove(id);
+			standingsService.evict(id);
+			teamSeasonService.evict(id);
 		}
 	}
 
@@ -76,4 +136,16 @@ public class ChampionshipServiceImpl implements ChampionshipService {
 		return repository.findByDescriptionContainsIgnoreCaseAndYearEquals(descricao, ano);
 	}
 
+	@Override
+	public List<Championship> search(String query, Integer limit) {
+		List<Integer> ids = descriptionIndex.search(query, limit == null ? maxResults : Math.min(limit, maxResults));
+		return ids.isEmpty() ? List.of() : PrefixIndex.inOrder(ids, repository.findAllById(ids), Championship::getId);
+	}
+
+	@Override
+	@EventListener(ApplicationReadyEvent.class)
+	public void rebuildSearchIndex() {
+		descriptionIndex.rebuild(repository::findAllDescriptions);
+	}
+
 }
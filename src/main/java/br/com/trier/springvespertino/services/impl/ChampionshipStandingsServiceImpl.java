@@ -0,0 +1,163 @@
+package br.com.trier.springvespertino.services.impl;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import br.com.trier.springvespertino.config.PointsTable;
+import br.com.trier.springvespertino.models.Championship;
+import br.com.trier.springvespertino.models.dto.PilotStandingDTO;
+import br.com.trier.springvespertino.models.dto.PlacementCountDTO;
+import br.com.trier.springvespertino.models.dto.StandingsDTO;
+import br.com.trier.springvespertino.models.dto.TeamStandingDTO;
+import br.com.trier.springvespertino.repositories.PilotRaceRepository;
+import br.com.trier.springvespertino.services.ChampionshipStandingsService;
+import br.com.trier.springvespertino.services.events.PilotRaceEvent;
+import br.com.trier.springvespertino.services.events.PilotRaceSnapshot;
+import br.com.trier.springvespertino.utils.LoadGuard;
+
+@Service
+public class ChampionshipStandingsServiceImpl implements ChampionshipStandingsService {
+
+	@Autowired
+	private PilotRaceRepository repository;
+
+	@Autowired
+	private PointsTable pointsTable;
+
+	private final Map<Integer, Standings> standings = new ConcurrentHashMap<>();
+
+	private final LoadGuard guard = new LoadGuard();
+
+	@Override
+	public StandingsDTO findByChampionship(Championship championship) {
+		Standings table = standings.get(championship.getId());
+		if (table == null) {
+			table = load(championship.getId());
+		}
+		return table.toDTO(championship);
+	}
+
+	@Override
+	public void evict(Integer championshipId) {
+		guard.invalidate();
+		standings.remove(championshipId);
+	}
+
+	@Override
+	public void evictAll() {
+		guard.invalidate();
+		standings.clear();
+	}
+
+	// Síncrono para marcar a escrita como pendente; o delta é aplicado só após o commit
+	@EventListener
+	public void onPilotRaceChanged(PilotRaceEvent event) {
+		guard.onWrite(() -> {
+			apply(event.getBefore(), -1);
+			apply(event.getAfter(), 1);
+		});
+	}
+
+	private void apply(PilotRaceSnapshot snapshot, int sign) {
+		if (snapshot == null) {
+			return;
+		}
+		standings.computeIfPresent(snapshot.getChampionshipId(), (id, table) -> {
+			table.add(snapshot.getPilotId(), snapshot.getPilotName(), snapshot.getTeamId(), snapshot.getTeamName(),
+					snapshot.getPlacement(), sign);
+			return table;
+		});
+	}
+
+	private Standings load(Integer championshipId) {
+		long start = guard.start();
+		Standings table = new Standings();
+		for (PlacementCountDTO row : repository.countPlacementsByChampionship(championshipId)) {
+			table.add(row.getPilotId(), row.getPilotName(), row.getTeamId(), row.getTeamName(), row.getPlacement(),
+					row.getTotal().intValue());
+		}
+		// Verificação e publicação atômicas: uma escrita não pode cair entre as duas
+		Standings stored = standings.compute(championshipId,
+				(id, current) -> current != null ? current : guard.canStore(start) ? table : null);
+		return stored != null ? stored : table;
+	}
+
+	private class Standings {
+
+		private final Map<Integer, PilotEntry> pilots = new HashMap<>();
+		private final Map<Integer, TeamEntry> teams = new HashMap<>();
+
+		synchronized void add(Integer pilotId, String pilotName, Integer teamId, String teamName, Integer placement,
+				int count) {
+			int points = pointsTable.pointsFor(placement) * count;
+			PilotEntry pilot = pilots.computeIfAbsent(pilotId, id -> new PilotEntry());
+			pilot.name = pilotName;
+			pilot.teamId = teamId;
+			pilot.teamName = teamName;
+			pilot.points += points;
+			pilot.races += count;
+			if (placement != null && placement == 1) {
+				pilot.wins += count;
+			}
+			if (pilot.races <= 0) {
+				pilots.remove(pilotId);
+			}
+			TeamEntry team = teams.computeIfAbsent(teamId, id -> new TeamEntry());
+			team.name = teamName;
+			team.points += points;
+			team.results += count;
+			if (team.results <= 0) {
+				teams.remove(teamId);
+			}
+		}
+
+		synchronized StandingsDTO toDTO(Championship championship) {
+			List<Map.Entry<Integer, PilotEntry>> pilotRows = pilots.entrySet().stream()
+					.sorted(Comparator.<Map.Entry<Integer, PilotEntry>>comparingInt(e -> -e.getValue().points)
+							.thenComparingInt(e -> -e.getValue().wins)
+							.thenComparing(Map.Entry::getKey))
+					.toList();
+			List<Map.Entry<Integer, TeamEntry>> teamRows = teams.entrySet().stream()
+					.sorted(Comparator.<Map.Entry<Integer, TeamEntry>>comparingInt(e -> -e.getValue().points)
+							.thenComparing(Map.Entry::getKey))
+					.toList();
+			return new StandingsDTO(championship.getId(), championship.getDescription(),
+					IntStream.range(0, pilotRows.size())
+							.mapToObj(i -> {
+								PilotEntry p = pilotRows.get(i).getValue();
+								return new PilotStandingDTO(i + 1, pilotRows.get(i).getKey(), p.name, p.teamId,
+										p.teamName, p.points, p.races, p.wins);
+							})
+							.toList(),
+					IntStream.range(0, teamRows.size())
+							.mapToObj(i -> new TeamStandingDTO(i + 1, teamRows.get(i).getKey(),
+									teamRows.get(i).getValue().name, teamRows.get(i).getValue().points))
+							.toList());
+		}
+
+	}
+
+	private static class PilotEntry {
+		String name;
+		Integer teamId;
+		String teamName;
+		int points;
+		int races;
+		int wins;
+	}
+
+	private static class TeamEntry {
+		String name;
+		int points;
+		int results;
+	}
+
+}
@@ -1,15 +1,22 @@
 package br.com.trier.springvespertino.services.impl;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import br.com.trier.springvespertino.config.CacheRegistry;
+import br.com.trier.springvespertino.config.TableVersions;
 import br.com.trier.springvespertino.models.Country;
 import br.com.trier.springvespertino.repositories.CountryRepository;
 import br.com.trier.springvespertino.services.CountryService;
+import br.com.trier.springvespertino.services.SpeedwayService;
 import br.com.trier.springvespertino.services.exceptions.ObjectNotFound;
+import br.com.trier.springvespertino.utils.BoundedCache;
+import br.com.trier.springvespertino.utils.KeysetUtils;
 
 @Service
 public class CountryServiceImpl implements CountryService{
@@ -17,14 +24,35 @@ public class CountryServiceImpl implements CountryService{
 	@Autowired
 	private CountryRepository repository;
 
+	@Autowired
+	private TableVersions tableVersions;
+
+	@Autowired
+	private SpeedwayService speedwayService;
+
+	private final BoundedCache<Integer, Country> cache;
+
+	public CountryServiceImpl(CacheRegistry registry, @Value("${reference-cache.size:1000}") int size,
+			@Value("${reference-cache.ttl-seconds:3600}") long ttlSeconds) {
+		this.cache = registry.create("countries", size, ttlSeconds * 1000,
+				country -> new Country(country.getId(), country.getName()));
+	}
+
 	@Override
 	public Country salvar(Country country) {
-		return repository.save(country);
+		Country saved = repository.save(country);
+		tableVersions.bump(TableVersions.COUNTRY);
+		return saved;
 	}
 
 	@Override
 	public Country update(Country country) {
-		return repository.save(country);
+		Country saved = repository.save(country);
+		tableVersions.bump(TableVersions.COUNTRY);
+		cache.invalidate(country.getId());
+		// Pistas em cache carregam o país
+		speedwayService.evictAll();
+		return saved;
 	}
 
 	@Override
@@ -32,6 +60,9 @@ public class CountryServiceImpl implements CountryService{
 		Country country = findById(id);
 		if(country != null) {
 			repository.delete(country);
+			tableVersions.bump(TableVersions.COUNTRY);
+			cache.invalidate(id);
+			speedwayService.evictAll();
 		}
 		
 	}
@@ -41,10 +72,27 @@ public class CountryServiceImpl implements CountryService{
 		return repository.findAll();
 	}
 
+	@Override
+	public List<Country> listAll(Integer after, Integer limit) {
+		return repository.findByIdGreaterThanOrderByIdAsc(KeysetUtils.after(after), KeysetUtils.page(limit));
+	}
+
 	@Override
 	public Country findById(Integer id) {
+		Country cached = cache.get(id);
+		if (cached != null) {
+			return cached;
+		}
+		long generation = cache.generation();
 		Optional<Country> country = repository.findById(id);
-		return country.orElseThrow(()->new ObjectNotFound("País não existe"));
+		cached = country.orElseThrow(()->new ObjectNotFound("País não existe"));
+		cache.putIfCurrent(id, cached, generation);
+		return cached;
+	}
+
+	@Override
+	public List<Country> findAllById(Collection<Integer> ids) {
+		return repository.findAllById(ids);
 	}
 
 	@Override
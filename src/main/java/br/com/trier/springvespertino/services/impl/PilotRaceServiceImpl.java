@@ -1,24 +1,61 @@
 package br.com.trier.springvespertino.services.impl;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import br.com.trier.springvespertino.config.SingleFlightRegistry;
+import br.com.trier.springvespertino.config.TableVersions;
 import br.com.trier.springvespertino.models.Pilot;
 import br.com.trier.springvespertino.models.PilotRace;
 import br.com.trier.springvespertino.models.Race;
+import br.com.trier.springvespertino.models.dto.PilotRaceDTO;
 import br.com.trier.springvespertino.repositories.PilotRaceRepository;
 import br.com.trier.springvespertino.services.PilotRaceService;
+import br.com.trier.springvespertino.services.events.PilotRaceEvent;
+import br.com.trier.springvespertino.services.events.PilotRaceSnapshot;
 import br.com.trier.springvespertino.services.exceptions.IntegrityViolation;
 import br.com.trier.springvespertino.services.exceptions.ObjectNotFound;
+import br.com.trier.springvespertino.utils.KeysetUtils;
+import br.com.trier.springvespertino.utils.SingleFlight;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 
 @Service
 public class PilotRaceServiceImpl implements PilotRaceService {
 
+	private static final int EXPORT_BATCH = 500;
+
 	@Autowired
 	private PilotRaceRepository repository;
 
+	@Autowired
+	private TableVersions tableVersions;
+
+	@Autowired
+	private ApplicationEventPublisher publisher;
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	// Só as consultas por DTO são compartilhadas: entidades ficam presas à sessão de quem as carregou
+	private final SingleFlight<Integer, List<PilotRaceDTO>> findDTOByRaceFlight;
+
+	public PilotRaceServiceImpl(SingleFlightRegistry registry) {
+		this.findDTOByRaceFlight = registry.create("pilot-race.findDTOByRace", TableVersions.PILOT_RACE,
+				TableVersions.PILOT);
+	}
+
 	private void checkPilotRace(PilotRace pilotRace) {
 		
 		if (pilotRace.getPlacement() == null) {
@@ -29,15 +66,68 @@ public class PilotRaceServiceImpl implements PilotRaceService {
 		}
 	}
 
+	private void checkDuplicate(PilotRace pilotRace) {
+		boolean exists = pilotRace.getId() == null
+				? repository.existsByPilotAndRace(pilotRace.getPilot(), pilotRace.getRace())
+				: repository.existsByPilotAndRaceAndIdNot(pilotRace.getPilot(), pilotRace.getRace(), pilotRace.getId());
+		if (exists) {
+			throw duplicated(pilotRace);
+		}
+	}
+
+	private IntegrityViolation duplicated(PilotRace pilotRace) {
+		return new IntegrityViolation("Piloto %s já possui resultado na corrida %s!"
+				.formatted(pilotRace.getPilot().getId(), pilotRace.getRace().getId()));
+	}
+
 	@Override
 	public PilotRace findById(Integer id) {
 		return repository.findById(id).orElseThrow(() -> new ObjectNotFound("ID %s inválido!".formatted(id)));
 	}
 
 	@Override
+	public PilotRaceDTO findDTOById(Integer id) {
+		return repository.findDTOById(id).orElseThrow(() -> new ObjectNotFound("ID %s inválido!".formatted(id)));
+	}
+
+	@Override
+	public List<PilotRaceDTO> findAllDTOById(Collection<Integer> ids) {
+		return repository.findDTOByIdIn(ids);
+	}
+
+	@Override
+	@Transactional
 	public PilotRace insert(PilotRace pilotRace) {
 		checkPilotRace(pilotRace);
-		return repository.save(pilotRace);
+		checkDuplicate(pilotRace);
+		PilotRace saved = repository.save(pilotRace);
+		tableVersions.bump(TableVersions.PILOT_RACE);
+		publisher.publishEvent(new PilotRaceEvent(null, PilotRaceSnapshot.of(saved)));
+		return saved;
+	}
+
+	@Override
+	@Transactional
+	public List<PilotRace> insertAll(List<PilotRace> pilotRaces) {
+		if (pilotRaces == null || pilotRaces.isEmpty()) {
+			throw new IntegrityViolation("Nenhum resultado informado!");
+		}
+		Set<Integer> pilots = new HashSet<>();
+		Map<Integer, Set<Integer>> existing = new HashMap<>();
+		for (PilotRace pilotRace : pilotRaces) {
+			checkPilotRace(pilotRace);
+			if (!pilots.add(pilotRace.getPilot().getId())) {
+				throw new IntegrityViolation("Piloto %s repetido no resultado!".formatted(pilotRace.getPilot().getId()));
+			}
+			if (existing.computeIfAbsent(pilotRace.getRace().getId(), id -> repository.findPilotIdsByRace(pilotRace.getRace()))
+					.contains(pilotRace.getPilot().getId())) {
+				throw duplicated(pilotRace);
+			}
+		}
+		List<PilotRace> saved = repository.saveAll(pilotRaces);
+		tableVersions.bump(TableVersions.PILOT_RACE);
+		saved.forEach(pilotRace -> publisher.publishEvent(new PilotRaceEvent(null, PilotRaceSnapshot.of(pilotRace))));
+		return saved;
 	}
 
 	@Override
@@ -50,16 +140,43 @@ public class PilotRaceServiceImpl implements PilotRaceService {
 	}
 
 	@Override
+	public List<PilotRace> listAll(Integer after, Integer limit) {
+		List<PilotRace> lista = repository.findByIdGreaterThanOrderByIdAsc(KeysetUtils.after(after), KeysetUtils.page(limit));
+		if (lista.isEmpty() && after == null) {
+			throw new ObjectNotFound("Nenhum PilotoCorrida cadastrado!");
+		}
+		return lista;
+	}
+
+	@Override
+	public List<PilotRaceDTO> listAllDTO(Integer after, Integer limit) {
+		List<PilotRaceDTO> lista = repository.findDTOByIdGreaterThan(KeysetUtils.after(after), KeysetUtils.page(limit));
+		if (lista.isEmpty() && after == null) {
+			throw new ObjectNotFound("Nenhum PilotoCorrida cadastrado!");
+		}
+		return lista;
+	}
+
+	@Override
+	@Transactional
 	public PilotRace update(PilotRace pilotRace) {
-		findById(pilotRace.getId());
+		PilotRaceSnapshot before = PilotRaceSnapshot.of(findById(pilotRace.getId()));
 		checkPilotRace(pilotRace);
-		return repository.save(pilotRace);
+		checkDuplicate(pilotRace);
+		PilotRace saved = repository.save(pilotRace);
+		tableVersions.bump(TableVersions.PILOT_RACE);
+		publisher.publishEvent(new PilotRaceEvent(before, PilotRaceSnapshot.of(saved)));
+		return saved;
 	}
 
 	@Override
+	@Transactional
 	public void delete(Integer id) {
 		PilotRace pilotRace = findById(id);
+		PilotRaceSnapshot before = PilotRaceSnapshot.of(pilotRace);
 		repository.delete(pilotRace);
+		tableVersions.bump(TableVersions.PILOT_RACE);
+		publisher.publishEvent(new PilotRaceEvent(before, null));
 
 	}
 
@@ -108,4 +225,65 @@ public class PilotRaceServiceImpl implements PilotRaceService {
 		return pilotRace;
 	}
 
+	@Override
+	public List<PilotRaceDTO> findDTOByPlacement(Integer placement) {
+		List<PilotRaceDTO> list = repository.findDTOByPlacement(placement);
+		if (list.isEmpty()) {
+			throw new ObjectNotFound("Nenhum PilotoCorrida nesta posição!");
+		}
+		return list;
+	}
+
+	@Override
+	public List<PilotRaceDTO> findDTOByPilot(Integer pilotId) {
+		List<PilotRaceDTO> list = repository.findDTOByPilot(pilotId);
+		if (list.isEmpty()) {
+			throw new ObjectNotFound("Nenhum PilotoCorrida com esse piloto!");
+		}
+		return list;
+	}
+
+	@Override
+	public List<PilotRaceDTO> findDTOByRaceOrderByPlacementAsc(Integer raceId) {
+		List<PilotRaceDTO> list = findDTOByRaceOrderByPlacementAscOrEmpty(raceId);
+		if (list.isEmpty()) {
+			throw new ObjectNotFound("Nenhum PilotoCorrida nesta corrida!");
+		}
+		return list;
+	}
+
+	@Override
+	public List<PilotRaceDTO> findDTOByRaceOrderByPlacementAscOrEmpty(Integer raceId) {
+		return findDTOByRaceFlight.execute(raceId, () -> repository.findDTOByRaceOrderByPlacementAsc(raceId));
+	}
+
+	@Override
+	public List<PilotRaceDTO> findDTOByPlacementBetweenAndRace(Integer placementIn, Integer placementFin, Integer raceId) {
+		List<PilotRaceDTO> list = repository.findDTOByPlacementBetweenAndRace(placementIn, placementFin, raceId);
+		if (list.isEmpty()) {
+			throw new ObjectNotFound("Nenhum PilotoCorrida com esses parâmetros de busca!");
+		}
+		return list;
+	}
+
+	@Override
+	public PilotRaceDTO findDTOByPilotAndRace(Integer pilotId, Integer raceId) {
+		return repository.findDTOByPilotAndRace(pilotId, raceId)
+				.orElseThrow(() -> new ObjectNotFound("Nenhum PilotoCorrida com esses parâmetros de busca!"));
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public void exportAll(Consumer<PilotRaceDTO> consumer) {
+		int count = 0;
+		try (Stream<PilotRace> stream = repository.streamAll()) {
+			for (PilotRace pilotRace : (Iterable<PilotRace>) stream::iterator) {
+				consumer.accept(pilotRace.toDTO());
+				if (++count % EXPORT_BATCH == 0) {
+					entityManager.clear();
+				}
+			}
+		}
+	}
+
 }
@@ -1,16 +1,23 @@
 package br.com.trier.springvespertino.services.impl;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import br.com.trier.springvespertino.config.TableVersions;
 import br.com.trier.springvespertino.models.Country;
 import br.com.trier.springvespertino.models.Pilot;
 import br.com.trier.springvespertino.models.Team;
 import br.com.trier.springvespertino.repositories.PilotRepository;
+import br.com.trier.springvespertino.services.ChampionshipStandingsService;
 import br.com.trier.springvespertino.services.PilotService;
+import br.com.trier.springvespertino.services.TeamSeasonService;
 import br.com.trier.springvespertino.services.exceptions.ObjectNotFound;
+import br.com.trier.springvespertino.utils.KeysetUtils;
+import br.com.trier.springvespertino.utils.PrefixIndex;
 
 @Service
 public class PilotServiceImpl implements PilotService {
@@ -18,14 +25,36 @@ public class PilotServiceImpl implements PilotService {
 	@Autowired
 	private PilotRepository repository;
 
+	@Autowired
+	private TableVersions tableVersions;
+
+	@Autowired
+	private ChampionshipStandingsService standingsService;
+
+	@Autowired
+	private TeamSeasonService teamSeasonService;
+
+	@Value("${search.prefix.max-results:50}")
+	private int maxResults;
+
+	private final PrefixIndex nameIndex = new PrefixIndex(() -> repository.findAllNames());
+
 	@Override
 	public Pilot findById(Integer id) {
 		return repository.findById(id).orElseThrow(() -> new ObjectNotFound("Pilot %s não existe".formatted(id)));
 	}
 
+	@Override
+	public List<Pilot> findAllById(Collection<Integer> ids) {
+		return repository.findAllById(ids);
+	}
+
 	@Override
 	public Pilot insert(Pilot pilot) {
-		return repository.save(pilot);
+		Pilot saved = repository.save(pilot);
+		tableVersions.bump(TableVersions.PILOT);
+		nameIndex.put(saved.getId(), saved.getName());
+		return saved;
 	}
 
 	@Override
@@ -37,21 +66,40 @@ public class PilotServiceImpl implements PilotService {
 		return lista;
 	}
 
+	@Override
+	public List<Pilot> listAll(Integer after, Integer limit) {
+		List<Pilot> lista = repository.findByIdGreaterThanOrderByIdAsc(KeysetUtils.after(after), KeysetUtils.page(limit));
+		if (lista.isEmpty() && after == null) {
+			throw new ObjectNotFound("Nenhum piloto cadastrado");
+		}
+		return lista;
+	}
+
 	@Override
 	public Pilot update(Pilot pilot) {
-		findById(pilot.getId());
-		return repository.save(pilot);
+		// Lido antes do save: com open-in-view a entidade atual é gerenciada e o merge já traz a nova equipe
+		Integer oldTeamId = findById(pilot.getId()).getTeam().getId();
+		Pilot saved = repository.save(pilot);
+		tableVersions.bump(TableVersions.PILOT);
+		nameIndex.put(saved.getId(), saved.getName());
+		standingsService.evictAll();
+		teamSeasonService.evictTeam(oldTeamId);
+		teamSeasonService.evictTeam(saved.getTeam().getId());
+		return saved;
 	}
 
 	@Override
 	public void delete(Integer id) {
 		repository.delete(findById(id));
+		tableVersions.bump(TableVersions.PILOT);
+		nameIndex.remove(id);
 
 	}
 
 	@Override
 	public List<Pilot> findByNameStartsWithIgnoreCase(String name) {
-		List<Pilot> lista = repository.findByNameStartsWithIgnoreCase(name);
+		List<Integer> ids = nameIndex.search(name, maxResults);
+		List<Pilot> lista = ids.isEmpty() ? List.of() : PrefixIndex.inOrder(ids, repository.findAllById(ids), Pilot::getId);
 		if (lista.isEmpty()) {
 			throw new ObjectNotFound("Nenhum piloto com esse nome");
 		}
@@ -0,0 +1,148 @@
+package br.com.trier.springvespertino.services.impl;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import br.com.trier.springvespertino.models.Pilot;
+import br.com.trier.springvespertino.models.Race;
+import br.com.trier.springvespertino.models.dto.PilotStatsDTO;
+import br.com.trier.springvespertino.models.dto.SpeedwayBestDTO;
+import br.com.trier.springvespertino.models.dto.SpeedwayPlacementCountDTO;
+import br.com.trier.springvespertino.repositories.PilotRaceRepository;
+import br.com.trier.springvespertino.services.PilotStatsService;
+import br.com.trier.springvespertino.services.events.PilotRaceEvent;
+import br.com.trier.springvespertino.services.events.PilotRaceSnapshot;
+import br.com.trier.springvespertino.utils.LoadGuard;
+
+@Service
+public class PilotStatsServiceImpl implements PilotStatsService {
+
+	@Autowired
+	private PilotRaceRepository repository;
+
+	private final Map<Integer, Stats> stats = new ConcurrentHashMap<>();
+
+	private final LoadGuard guard = new LoadGuard();
+
+	@Override
+	public PilotStatsDTO findByPilot(Pilot pilot) {
+		Stats pilotStats = stats.get(pilot.getId());
+		if (pilotStats == null) {
+			pilotStats = load(pilot.getId());
+		}
+		return pilotStats.toDTO(pilot);
+	}
+
+	@Override
+	public void evict(Integer pilotId) {
+		guard.invalidate();
+		stats.remove(pilotId);
+	}
+
+	@Override
+	public void evictByRace(Race race) {
+		guard.invalidate();
+		repository.findPilotIdsByRace(race).forEach(stats::remove);
+	}
+
+	@Override
+	@EventListener(ApplicationReadyEvent.class)
+	public void rebuildAll() {
+		long start = guard.start();
+		Map<Integer, Stats> rebuilt = new HashMap<>();
+		for (SpeedwayPlacementCountDTO row : repository.countAllPlacementsBySpeedway()) {
+			rebuilt.computeIfAbsent(row.getPilotId(), id -> new Stats())
+					.add(row.getSpeedwayId(), row.getPlacement(), row.getTotal().intValue());
+		}
+		stats.clear();
+		// Mesma regra da carga individual: o que uma escrita concorrente tornou incerto fica para a próxima busca
+		rebuilt.forEach((pilotId, pilotStats) -> stats.compute(pilotId,
+				(id, current) -> current != null ? current : guard.canStore(start) ? pilotStats : null));
+	}
+
+	// Síncrono para marcar a escrita como pendente; o delta é aplicado só após o commit
+	@EventListener
+	public void onPilotRaceChanged(PilotRaceEvent event) {
+		guard.onWrite(() -> {
+			apply(event.getBefore(), -1);
+			apply(event.getAfter(), 1);
+		});
+	}
+
+	private void apply(PilotRaceSnapshot snapshot, int sign) {
+		if (snapshot == null) {
+			return;
+		}
+		stats.computeIfPresent(snapshot.getPilotId(), (id, pilotStats) -> {
+			pilotStats.add(snapshot.getSpeedwayId(), snapshot.getPlacement(), sign);
+			return pilotStats;
+		});
+	}
+
+	private Stats load(Integer pilotId) {
+		long start = guard.start();
+		Stats pilotStats = new Stats();
+		for (SpeedwayPlacementCountDTO row : repository.countPlacementsBySpeedway(pilotId)) {
+			pilotStats.add(row.getSpeedwayId(), row.getPlacement(), row.getTotal().intValue());
+		}
+		// Verificação e publicação atômicas: uma escrita não pode cair entre as duas
+		Stats stored = stats.compute(pilotId,
+				(id, current) -> current != null ? current : guard.canStore(start) ? pilotStats : null);
+		return stored != null ? stored : pilotStats;
+	}
+
+	private static class Stats {
+
+		private int races;
+		private int wins;
+		private int podiums;
+		private int placed;
+		private long placementSum;
+		private final Map<Integer, SpeedwayEntry> speedways = new HashMap<>();
+
+		synchronized void add(Integer speedwayId, Integer placement, int count) {
+			races += count;
+			SpeedwayEntry speedway = speedways.computeIfAbsent(speedwayId, id -> new SpeedwayEntry());
+			speedway.races += count;
+			if (placement != null) {
+				placed += count;
+				placementSum += (long) placement * count;
+				if (placement == 1) {
+					wins += count;
+				}
+				if (placement <= 3) {
+					podiums += count;
+				}
+				if (speedway.placements.merge(placement, count, Integer::sum) <= 0) {
+					speedway.placements.remove(placement);
+				}
+			}
+			if (speedway.races <= 0) {
+				speedways.remove(speedwayId);
+			}
+		}
+
+		synchronized PilotStatsDTO toDTO(Pilot pilot) {
+			return new PilotStatsDTO(pilot.getId(), pilot.getName(), races, wins, podiums,
+					placed > 0 ? (double) placementSum / placed : null,
+					new TreeMap<>(speedways).entrySet().stream()
+							.map(e -> new SpeedwayBestDTO(e.getKey(), e.getValue().races,
+									e.getValue().placements.isEmpty() ? null : e.getValue().placements.firstKey()))
+							.toList());
+		}
+
+	}
+
+	private static class SpeedwayEntry {
+		int races;
+		final TreeMap<Integer, Integer> placements = new TreeMap<>();
+	}
+
+}
@@ -0,0 +1,117 @@
+package br.com.trier.springvespertino.services.impl;
+
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import br.com.trier.springvespertino.models.dto.PilotRaceLiveDTO;
+import br.com.trier.springvespertino.services.RaceLiveService;
+import br.com.trier.springvespertino.services.events.PilotRaceEvent;
+import br.com.trier.springvespertino.services.events.PilotRaceSnapshot;
+import br.com.trier.springvespertino.utils.LiveEventBus;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+
+@Service
+public class RaceLiveServiceImpl implements RaceLiveService {
+
+	private final int threads;
+
+	private final ThreadPoolExecutor executor;
+
+	private final ScheduledExecutorService scheduler;
+
+	private final LiveEventBus<Integer, PilotRaceLiveDTO> bus;
+
+	public RaceLiveServiceImpl(MeterRegistry meterRegistry, @Value("${live.buffer-size:64}") int bufferSize,
+			@Value("${live.dispatch-threads:4}") int threads, @Value("${live.send-timeout-ms:5000}") long sendTimeoutMs,
+			@Value("${live.heartbeat-seconds:15}") long heartbeatSeconds) {
+		this.threads = threads;
+		AtomicInteger count = new AtomicInteger();
+		// Máximo aberto: o núcleo cresce só enquanto há envios travados (ver sweep)
+		this.executor = new ThreadPoolExecutor(threads, Integer.MAX_VALUE, 60, TimeUnit.SECONDS,
+				new LinkedBlockingQueue<>(), runnable -> {
+					Thread thread = new Thread(runnable, "live-dispatch-" + count.incrementAndGet());
+					thread.setDaemon(true);
+					return thread;
+				});
+		this.bus = new LiveEventBus<>(bufferSize, executor);
+		this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "live-scheduler");
+			thread.setDaemon(true);
+			return thread;
+		});
+		long sweepMs = Math.max(100, sendTimeoutMs / 2);
+		long timeoutNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs);
+		scheduler.scheduleWithFixedDelay(() -> sweep(timeoutNanos), sweepMs, sweepMs, TimeUnit.MILLISECONDS);
+		scheduler.scheduleWithFixedDelay(bus::heartbeat, heartbeatSeconds, heartbeatSeconds, TimeUnit.SECONDS);
+		Gauge.builder("live.subscribers", bus, LiveEventBus::getSubscribers).register(meterRegistry);
+		FunctionCounter.builder("live.published", bus, LiveEventBus::getPublished).register(meterRegistry);
+		FunctionCounter.builder("live.dropped", bus, LiveEventBus::getDropped)
+				.description("Eventos descartados por buffer de assinante cheio")
+				.register(meterRegistry);
+		FunctionCounter.builder("live.stalled", bus, LiveEventBus::getStalled)
+				.description("Assinantes removidos por envio acima do prazo")
+				.register(meterRegistry);
+	}
+
+	/**
+	 * Remove assinantes travados e repõe no pool uma thread para cada envio ainda preso, para que
+	 * poucos clientes lentos não parem a entrega dos demais. As threads extras saem quando ociosas.
+	 */
+	private void sweep(long timeoutNanos) {
+		bus.sweep(timeoutNanos);
+		int core = threads + bus.getStalledSending();
+		if (executor.getCorePoolSize() != core) {
+			executor.setCorePoolSize(core);
+		}
+	}
+
+	@Override
+	public LiveEventBus<Integer, PilotRaceLiveDTO>.Subscription subscribe(Integer raceId,
+			LiveEventBus.Sink<PilotRaceLiveDTO> sink) {
+		return bus.subscribe(raceId, sink);
+	}
+
+	@Override
+	public void unsubscribe(LiveEventBus<Integer, PilotRaceLiveDTO>.Subscription subscription) {
+		bus.unsubscribe(subscription);
+	}
+
+	// Após o commit: quem assiste não deve ver um resultado que ainda pode ser desfeito
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onPilotRaceChanged(PilotRaceEvent event) {
+		PilotRaceSnapshot before = event.getBefore();
+		PilotRaceSnapshot after = event.getAfter();
+		if (before != null && (after == null || !Objects.equals(before.getRaceId(), after.getRaceId()))) {
+			publish(PilotRaceLiveDTO.DELETED, before);
+		}
+		if (after != null) {
+			publish(before != null && Objects.equals(before.getRaceId(), after.getRaceId()) ? PilotRaceLiveDTO.UPDATED
+					: PilotRaceLiveDTO.INSERTED, after);
+		}
+	}
+
+	private void publish(String type, PilotRaceSnapshot snapshot) {
+		bus.publish(snapshot.getRaceId(), new PilotRaceLiveDTO(type, snapshot.getId(), snapshot.getRaceId(),
+				snapshot.getPilotId(), snapshot.getPilotName(), snapshot.getTeamId(), snapshot.getTeamName(),
+				snapshot.getPlacement()));
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		scheduler.shutdownNow();
+		executor.shutdownNow();
+	}
+
+}
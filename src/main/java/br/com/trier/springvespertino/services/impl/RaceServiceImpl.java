@@ -1,25 +1,66 @@
 package br.com.trier.springvespertino.services.impl;
 
 import java.time.ZonedDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import br.com.trier.springvespertino.config.SingleFlightRegistry;
+import br.com.trier.springvespertino.config.TableVersions;
 import br.com.trier.springvespertino.models.Championship;
+import br.com.trier.springvespertino.models.Country;
 import br.com.trier.springvespertino.models.Race;
 import br.com.trier.springvespertino.models.Speedway;
+import br.com.trier.springvespertino.models.dto.RaceDTO;
 import br.com.trier.springvespertino.repositories.RaceRepository;
+import br.com.trier.springvespertino.services.ChampionshipStandingsService;
+import br.com.trier.springvespertino.services.PilotStatsService;
 import br.com.trier.springvespertino.services.RaceService;
+import br.com.trier.springvespertino.services.TeamSeasonService;
 import br.com.trier.springvespertino.services.exceptions.IntegrityViolation;
 import br.com.trier.springvespertino.services.exceptions.ObjectNotFound;
+import br.com.trier.springvespertino.utils.DateUtils;
+import br.com.trier.springvespertino.utils.KeysetUtils;
+import br.com.trier.springvespertino.utils.SingleFlight;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 
 @Service
 public class RaceServiceImpl implements RaceService {
 
+	private static final int EXPORT_BATCH = 500;
+
 	@Autowired
 	private RaceRepository repository;
 
+	@Autowired
+	private TableVersions tableVersions;
+
+	@Autowired
+	private ChampionshipStandingsService standingsService;
+
+	@Autowired
+	private PilotStatsService pilotStatsService;
+
+	@Autowired
+	private TeamSeasonService teamSeasonService;
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	// Só as consultas por DTO são compartilhadas: entidades ficam presas à sessão de quem as carregou
+	private final SingleFlight<Integer, RaceDTO> findDTOByIdFlight;
+
+	public RaceServiceImpl(SingleFlightRegistry registry) {
+		this.findDTOByIdFlight = registry.create("race.findDTOById", TableVersions.RACE, TableVersions.SPEEDWAY,
+				TableVersions.CHAMPIONSHIP);
+	}
+
 	private void validateRace(Race race) {
 		if (race.getChampionship() == null) {
 			throw new IntegrityViolation("Campeonato não pode ser nulo");
@@ -40,10 +81,23 @@ public class RaceServiceImpl implements RaceService {
 				.orElseThrow(()->new ObjectNotFound("Corrida %s não existe".formatted(id)));
 	}
 
+	@Override
+	public RaceDTO findDTOById(Integer id) {
+		return findDTOByIdFlight.execute(id, () -> repository.findDTOById(id)
+				.orElseThrow(()->new ObjectNotFound("Corrida %s não existe".formatted(id))));
+	}
+
+	@Override
+	public List<RaceDTO> findAllDTOById(Collection<Integer> ids) {
+		return repository.findDTOByIdIn(ids);
+	}
+
 	@Override
 	public Race insert(Race race) {
 		validateRace(race);
-		return repository.save(race);
+		Race saved = repository.save(race);
+		tableVersions.bump(TableVersions.RACE);
+		return saved;
 	}
 
 	@Override
@@ -55,16 +109,47 @@ public class RaceServiceImpl implements RaceService {
 		return lista;
 	}
 
+	@Override
+	public List<Race> listAll(Integer after, Integer limit) {
+		List<Race> lista = repository.findByIdGreaterThanOrderByIdAsc(KeysetUtils.after(after), KeysetUtils.page(limit));
+		if (lista.isEmpty() && after == null) {
+			throw new ObjectNotFound("Não existem corridas cadastradas");
+		}
+		return lista;
+	}
+
+	@Override
+	public List<RaceDTO> listAllDTO(Integer after, Integer limit) {
+		List<RaceDTO> lista = repository.findDTOByIdGreaterThan(KeysetUtils.after(after), KeysetUtils.page(limit));
+		if (lista.isEmpty() && after == null) {
+			throw new ObjectNotFound("Não existem corridas cadastradas");
+		}
+		return lista;
+	}
+
 	@Override
 	public Race update(Race race) {
-		findById(race.getId());
+		Race old = findById(race.getId());
+		Integer oldChampionshipId = old.getChampionship().getId();
+		Integer oldSpeedwayId = old.getSpeedway().getId();
 		validateRace(race);
-		return repository.save(race);
+		Race saved = repository.save(race);
+		tableVersions.bump(TableVersions.RACE);
+		standingsService.evict(oldChampionshipId);
+		standingsService.evict(saved.getChampionship().getId());
+		teamSeasonService.evict(oldChampionshipId);
+		teamSeasonService.evict(saved.getChampionship().getId());
+		// As estatísticas dos pilotos da corrida guardam resultados por pista
+		if (!oldSpeedwayId.equals(saved.getSpeedway().getId())) {
+			pilotStatsService.evictByRace(saved);
+		}
+		return saved;
 	}
 
 	@Override
 	public void delete(Integer id) {
 		repository.delete(findById(id));
+		tableVersions.bump(TableVersions.RACE);
 	}
 
 	@Override
@@ -78,13 +163,18 @@ public class RaceServiceImpl implements RaceService {
 
 	@Override
 	public List<Race> findBySpeedway(Speedway speedway) {
-		List<Race> lista = repository.findBySpeedway(speedway);
+		List<Race> lista = findBySpeedwayOrEmpty(speedway);
 		if(lista.isEmpty()) {
 			throw new ObjectNotFound("Não existe corrida na pista especificada");
 		}
 		return lista;
 	}
 
+	@Override
+	public List<Race> findBySpeedwayOrEmpty(Speedway speedway) {
+		return repository.findBySpeedway(speedway);
+	}
+
 	@Override
 	public List<Race> findByChampionship(Championship championship) {
 		List<Race> lista = repository.findByChampionship(championship);
@@ -94,4 +184,50 @@ public class RaceServiceImpl implements RaceService {
 		return lista;
 	}
 
+	@Override
+	public List<RaceDTO> findDTOByDate(ZonedDateTime date) {
+		List<RaceDTO> lista = repository.findDTOByDate(date);
+		if(lista.isEmpty()) {
+			throw new ObjectNotFound("Não existe corrida para a data especificada");
+		}
+		return lista;
+	}
+
+	@Override
+	public List<RaceDTO> findDTOBySpeedway(Integer speedwayId) {
+		List<RaceDTO> lista = repository.findDTOBySpeedway(speedwayId);
+		if(lista.isEmpty()) {
+			throw new ObjectNotFound("Não existe corrida na pista especificada");
+		}
+		return lista;
+	}
+
+	@Override
+	public List<RaceDTO> findDTOByChampionship(Integer championshipId) {
+		List<RaceDTO> lista = repository.findDTOByChampionship(championshipId);
+		if(lista.isEmpty()) {
+			throw new ObjectNotFound("Não existe corrida para o campeonato especificado");
+		}
+		return lista;
+	}
+
+	@Override
+	public List<RaceDTO> findByCountryAndYear(Country country, Integer year) {
+		return repository.findByCountryAndDateRange(country, DateUtils.startOfYear(year), DateUtils.startOfYear(year + 1));
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public void exportAll(Consumer<RaceDTO> consumer) {
+		int count = 0;
+		try (Stream<Race> stream = repository.streamAll()) {
+			for (Race race : (Iterable<Race>) stream::iterator) {
+				consumer.accept(race.toDTO());
+				if (++count % EXPORT_BATCH == 0) {
+					entityManager.clear();
+				}
+			}
+		}
+	}
+
 }
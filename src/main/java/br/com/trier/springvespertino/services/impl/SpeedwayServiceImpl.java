@@ -1,16 +1,23 @@
 package br.com.trier.springvespertino.services.impl;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import br.com.trier.springvespertino.config.CacheRegistry;
+import br.com.trier.springvespertino.config.TableVersions;
 import br.com.trier.springvespertino.models.Country;
 import br.com.trier.springvespertino.models.Speedway;
 import br.com.trier.springvespertino.repositories.SpeedwayRepository;
 import br.com.trier.springvespertino.services.SpeedwayService;
 import br.com.trier.springvespertino.services.exceptions.IntegrityViolation;
 import br.com.trier.springvespertino.services.exceptions.ObjectNotFound;
+import br.com.trier.springvespertino.utils.BoundedCache;
+import br.com.trier.springvespertino.utils.KeysetUtils;
+import br.com.trier.springvespertino.utils.PrefixIndex;
 
 @Service
 public class SpeedwayServiceImpl implements SpeedwayService {
@@ -18,6 +25,21 @@ public class SpeedwayServiceImpl implements SpeedwayService {
 	@Autowired
 	private SpeedwayRepository repository;
 
+	@Autowired
+	private TableVersions tableVersions;
+
+	@Value("${search.prefix.max-results:50}")
+	private int maxResults;
+
+	private final BoundedCache<Integer, Speedway> cache;
+
+	private final PrefixIndex nameIndex = new PrefixIndex(() -> repository.findAllNames());
+
+	public SpeedwayServiceImpl(CacheRegistry registry, @Value("${reference-cache.size:1000}") int size,
+			@Value("${reference-cache.ttl-seconds:3600}") long ttlSeconds) {
+		this.cache = registry.create("speedways", size, ttlSeconds * 1000, SpeedwayServiceImpl::copy);
+	}
+
 	private void validateSpeedway(Speedway speedway) {
 		if (speedway.getSize() == null || speedway.getSize() <= 0) {
 			throw new IntegrityViolation("Tamanho da pista inválido");
@@ -26,14 +48,35 @@ public class SpeedwayServiceImpl implements SpeedwayService {
 
 	@Override
 	public Speedway findById(Integer id) {
-		return repository.findById(id)
-				.orElseThrow(() -> new ObjectNotFound("Pista %s não existe".formatted(id)));
+		Speedway cached = cache.get(id);
+		if (cached == null) {
+			long generation = cache.generation();
+			cached = repository.findById(id)
+					.orElseThrow(() -> new ObjectNotFound("Pista %s não existe".formatted(id)));
+			cache.putIfCurrent(id, cached, generation);
+		}
+		return cached;
+	}
+
+	// O país vem do entity graph de findById, então já está inicializado
+	private static Speedway copy(Speedway speedway) {
+		Country country = speedway.getCountry();
+		return new Speedway(speedway.getId(), speedway.getName(), speedway.getSize(),
+				country == null ? null : new Country(country.getId(), country.getName()));
+	}
+
+	@Override
+	public List<Speedway> findAllById(Collection<Integer> ids) {
+		return repository.findAllById(ids);
 	}
 
 	@Override
 	public Speedway insert(Speedway speedway) {
 		validateSpeedway(speedway);
-		return repository.save(speedway);
+		Speedway saved = repository.save(speedway);
+		tableVersions.bump(TableVersions.SPEEDWAY);
+		nameIndex.put(saved.getId(), saved.getName());
+		return saved;
 	}
 
 	@Override
@@ -45,22 +88,44 @@ public class SpeedwayServiceImpl implements SpeedwayService {
 		return lista;
 	}
 
+	@Override
+	public List<Speedway> listAll(Integer after, Integer limit) {
+		List<Speedway> lista = repository.findByIdGreaterThanOrderByIdAsc(KeysetUtils.after(after), KeysetUtils.page(limit));
+		if (lista.isEmpty() && after == null) {
+			throw new ObjectNotFound("Nenhuma pista cadastrada");
+		}
+		return lista;
+	}
+
 	@Override
 	public Speedway update(Speedway speedway) {
 		findById(speedway.getId());
 		validateSpeedway(speedway);
-		return repository.save(speedway);
+		Speedway saved = repository.save(speedway);
+		tableVersions.bump(TableVersions.SPEEDWAY);
+		cache.invalidate(speedway.getId());
+		nameIndex.put(saved.getId(), saved.getName());
+		return saved;
 	}
 
 	@Override
 	public void delete(Integer id) {
 		Speedway speedway = findById(id);
 		repository.delete(speedway);
+		tableVersions.bump(TableVersions.SPEEDWAY);
+		cache.invalidate(id);
+		nameIndex.remove(id);
+	}
+
+	@Override
+	public void evictAll() {
+		cache.invalidateAll();
 	}
 
 	@Override
 	public List<Speedway> findByNameStartsWithIgnoreCase(String name) {
-		List<Speedway> lista = repository.findByNameStartsWithIgnoreCase(name);
+		List<Integer> ids = nameIndex.search(name, maxResults);
+		List<Speedway> lista = ids.isEmpty() ? List.of() : PrefixIndex.inOrder(ids, repository.findAllById(ids), Speedway::getId);
 		if(lista.isEmpty()) {
 			throw new ObjectNotFound("Nenhuma pista cadastrada com esse nome");
 		}
@@ -78,11 +143,16 @@ public class SpeedwayServiceImpl implements SpeedwayService {
 
 	@Override
 	public List<Speedway> findByCountryOrderBySizeDesc(Country country) {
-		List<Speedway> lista = repository.findByCountryOrderBySizeDesc(country);
+		List<Speedway> lista = findByCountryOrderBySizeDescOrEmpty(country);
 		if(lista.isEmpty()) {
 			throw new ObjectNotFound("Nenhuma pista cadastrada no país: %s".formatted(country.getName()));
 		}
 		return lista;
 	}
 
+	@Override
+	public List<Speedway> findByCountryOrderBySizeDescOrEmpty(Country country) {
+		return repository.findByCountryOrderBySizeDesc(country);
+	}
+
 }
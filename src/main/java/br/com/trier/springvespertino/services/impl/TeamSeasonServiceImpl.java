@@ -0,0 +1,124 @@
+package br.com.trier.springvespertino.services.impl;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import br.com.trier.springvespertino.config.PointsTable;
+import br.com.trier.springvespertino.models.Championship;
+import br.com.trier.springvespertino.models.dto.TeamPlacementCountDTO;
+import br.com.trier.springvespertino.models.dto.TeamSeasonDTO;
+import br.com.trier.springvespertino.repositories.PilotRaceRepository;
+import br.com.trier.springvespertino.services.TeamSeasonService;
+import br.com.trier.springvespertino.services.events.PilotRaceEvent;
+import br.com.trier.springvespertino.services.events.PilotRaceSnapshot;
+
+@Service
+public class TeamSeasonServiceImpl implements TeamSeasonService {
+
+	@Autowired
+	private PilotRaceRepository repository;
+
+	@Autowired
+	private PointsTable pointsTable;
+
+	private final Map<Integer, Season> seasons = new ConcurrentHashMap<>();
+
+	@Override
+	public List<TeamSeasonDTO> findByChampionship(Championship championship) {
+		return seasons.computeIfAbsent(championship.getId(), id -> new Season()).toDTO(championship);
+	}
+
+	@Override
+	public void evict(Integer championshipId) {
+		seasons.remove(championshipId);
+	}
+
+	@Override
+	public void evictTeam(Integer teamId) {
+		seasons.values().forEach(season -> season.invalidate(teamId));
+	}
+
+	@Override
+	public void evictAll() {
+		seasons.clear();
+	}
+
+	// Após o commit: a releitura da equipe precisa enxergar o resultado gravado
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onPilotRaceChanged(PilotRaceEvent event) {
+		invalidate(event.getBefore());
+		invalidate(event.getAfter());
+	}
+
+	private void invalidate(PilotRaceSnapshot snapshot) {
+		if (snapshot == null) {
+			return;
+		}
+		Season season = seasons.get(snapshot.getChampionshipId());
+		if (season != null) {
+			season.invalidate(snapshot.getTeamId());
+		}
+	}
+
+	private Map<Integer, TeamSeasonDTO> aggregate(Championship championship, List<TeamPlacementCountDTO> rows) {
+		Map<Integer, int[]> totals = new HashMap<>();
+		Map<Integer, String> names = new HashMap<>();
+		for (TeamPlacementCountDTO row : rows) {
+			int count = row.getTotal().intValue();
+			int[] team = totals.computeIfAbsent(row.getTeamId(), id -> new int[4]);
+			names.put(row.getTeamId(), row.getTeamName());
+			team[0] += count;
+			if (row.getPlacement() != null && row.getPlacement() == 1) {
+				team[1] += count;
+			}
+			if (row.getPlacement() != null && row.getPlacement() <= 3) {
+				team[2] += count;
+			}
+			team[3] += pointsTable.pointsFor(row.getPlacement()) * count;
+		}
+		Map<Integer, TeamSeasonDTO> teams = new HashMap<>();
+		totals.forEach((id, team) -> teams.put(id, new TeamSeasonDTO(id, names.get(id), championship.getId(),
+				championship.getYear(), team[0], team[1], team[2], team[3])));
+		return teams;
+	}
+
+	private class Season {
+
+		private Map<Integer, TeamSeasonDTO> teams;
+		private final Set<Integer> stale = new HashSet<>();
+
+		synchronized void invalidate(Integer teamId) {
+			if (teams != null) {
+				stale.add(teamId);
+			}
+		}
+
+		synchronized List<TeamSeasonDTO> toDTO(Championship championship) {
+			if (teams == null) {
+				teams = aggregate(championship, repository.countTeamPlacementsByChampionship(championship.getId()));
+			}
+			for (Integer teamId : stale) {
+				teams.remove(teamId);
+				teams.putAll(aggregate(championship,
+						repository.countTeamPlacementsByChampionshipAndTeam(championship.getId(), teamId)));
+			}
+			stale.clear();
+			return teams.values().stream()
+					.sorted(Comparator.comparingInt((TeamSeasonDTO t) -> -t.getPoints())
+							.thenComparingInt(t -> -t.getWins())
+							.thenComparing(TeamSeasonDTO::getIdTeam))
+					.toList();
+		}
+
+	}
+
+}
@@ -1,22 +1,47 @@
 package br.com.trier.springvespertino.services.impl;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import br.com.trier.springvespertino.config.CacheRegistry;
+import br.com.trier.springvespertino.config.TableVersions;
 import br.com.trier.springvespertino.models.Team;
 import br.com.trier.springvespertino.repositories.TeamRepository;
+import br.com.trier.springvespertino.services.ChampionshipStandingsService;
+import br.com.trier.springvespertino.services.TeamSeasonService;
 import br.com.trier.springvespertino.services.TeamService;
 import br.com.trier.springvespertino.services.exceptions.IntegrityViolation;
 import br.com.trier.springvespertino.services.exceptions.ObjectNotFound;
+import br.com.trier.springvespertino.utils.BoundedCache;
+import br.com.trier.springvespertino.utils.KeysetUtils;
 
 @Service
 public class TeamServiceImpl implements TeamService{
 	
 	@Autowired
 	private TeamRepository repository;
+
+	@Autowired
+	private TableVersions tableVersions;
+
+	@Autowired
+	private TeamSeasonService teamSeasonService;
+
+	@Autowired
+	private ChampionshipStandingsService standingsService;
+
+	private final BoundedCache<Integer, Team> cache;
+
+	public TeamServiceImpl(CacheRegistry registry, @Value("${reference-cache.size:1000}") int size,
+			@Value("${reference-cache.ttl-seconds:3600}") long ttlSeconds) {
+		this.cache = registry.create("teams", size, ttlSeconds * 1000,
+				team -> new Team(team.getId(), team.getName()));
+	}
 	
 	private void findByName(Team team) {
 		List<Team> lista = repository.findByNameIgnoreCase(team.getName());
@@ -28,7 +53,9 @@ public class TeamServiceImpl implements TeamService{
 	@Override
 	public Team salvar(Team team) {
 		findByName(team);
-		return repository.save(team);
+		Team saved = repository.save(team);
+		tableVersions.bump(TableVersions.TEAM);
+		return saved;
 	}
 
 	@Override
@@ -40,24 +67,52 @@ public class TeamServiceImpl implements TeamService{
 		return lista;
 	}
 
+	@Override
+	public List<Team> listAll(Integer after, Integer limit) {
+		List<Team> lista = repository.findByIdGreaterThanOrderByIdAsc(KeysetUtils.after(after), KeysetUtils.page(limit));
+		if (lista.isEmpty() && after == null) {
+			throw new ObjectNotFound("Não existe equipes cadastradas");
+		}
+		return lista;
+	}
+
 	@Override
 	public Team findById(Integer id) {
+		Team cached = cache.get(id);
+		if (cached != null) {
+			return cached;
+		}
+		long generation = cache.generation();
 		Optional<Team> team = repository.findById(id);
-		return team.orElseThrow(()->new ObjectNotFound("Equipe %s não encontrada".formatted(id)));
+		cached = team.orElseThrow(()->new ObjectNotFound("Equipe %s não encontrada".formatted(id)));
+		cache.putIfCurrent(id, cached, generation);
+		return cached;
+	}
+
+	@Override
+	public List<Team> findAllById(Collection<Integer> ids) {
+		return repository.findAllById(ids);
 	}
 
 	@Override
 	public Team update(Team team) {
 		findById(team.getId());
 		findByName(team);
-		return repository.save(team);
+		Team saved = repository.save(team);
+		tableVersions.bump(TableVersions.TEAM);
+		cache.invalidate(team.getId());
+		// A classificação guarda o nome da equipe
+		standingsService.evictAll();
+		teamSeasonService.evictTeam(team.getId());
+		return saved;
 	}
 
 	@Override
 	public void delete(Integer id) {
 		Team team = findById(id);
 		repository.delete(team);
-		
+		tableVersions.bump(TableVersions.TEAM);
+		cache.invalidate(id);
 	}
 
 	@Override
@@ -4,19 +4,40 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import br.com.trier.springvespertino.config.TableVersions;
+import br.com.trier.springvespertino.config.jwt.JwtUserDetailService;
 import br.com.trier.springvespertino.models.User;
 import br.com.trier.springvespertino.repositories.UserRepository;
 import br.com.trier.springvespertino.services.UserService;
 import br.com.trier.springvespertino.services.exceptions.IntegrityViolation;
 import br.com.trier.springvespertino.services.exceptions.ObjectNotFound;
+import br.com.trier.springvespertino.utils.PasswordUtils;
+import br.com.trier.springvespertino.utils.KeysetUtils;
+import br.com.trier.springvespertino.utils.PrefixIndex;
 
 @Service
 public class UserServiceImpl implements UserService{
 	
 	@Autowired
 	private UserRepository repository;
+
+	@Autowired
+	private TableVersions tableVersions;
+	
+	@Autowired
+	private PasswordEncoder encoder;
+	
+	@Autowired
+	private JwtUserDetailService userDetailService;
+
+	@Value("${search.prefix.max-results:50}")
+	private int maxResults;
+
+	private final PrefixIndex nameIndex = new PrefixIndex(() -> repository.findAllNames());
 	
 	private void findByEmail(User user) {
 		User busca = repository.findByEmail(user.getEmail()).orElse(null);
@@ -26,6 +47,12 @@ public class UserServiceImpl implements UserService{
 		}
 	}
 
+	private void encodePassword(User user) {
+		if(user.getPassword() != null && !PasswordUtils.isEncoded(user.getPassword())) {
+			user.setPassword(encoder.encode(user.getPassword()));
+		}
+	}
+
 	@Override
 	public User findById(Integer id) {
 		Optional<User> user = repository.findById(id);
@@ -36,7 +63,11 @@ public class UserServiceImpl implements UserService{
 	@Override
 	public User insert(User user) {
 		findByEmail(user);
-		return repository.save(user);
+		encodePassword(user);
+		User saved = repository.save(user);
+		tableVersions.bump(TableVersions.USER);
+		nameIndex.put(saved.getId(), saved.getName());
+		return saved;
 	}
 
 	@Override
@@ -48,22 +79,45 @@ public class UserServiceImpl implements UserService{
 		return lista;
 	}
 
+	@Override
+	public List<User> listAll(Integer after, Integer limit) {
+		List<User> lista = repository.findByIdGreaterThanOrderByIdAsc(KeysetUtils.after(after), KeysetUtils.page(limit));
+		if (lista.isEmpty() && after == null) {
+			throw new ObjectNotFound("Nenhum usuário cadastrado");
+		}
+		return lista;
+	}
+
 	@Override
 	public User update(User user) {
-		findById(user.getId());
+		User current = findById(user.getId());
 		findByEmail(user);
-		return repository.save(user);
+		if(user.getPassword() == null) {
+			user.setPassword(current.getPassword());
+		}
+		encodePassword(user);
+		String oldEmail = current.getEmail();
+		User saved = repository.save(user);
+		tableVersions.bump(TableVersions.USER);
+		nameIndex.put(saved.getId(), saved.getName());
+		userDetailService.evict(oldEmail);
+		userDetailService.evict(saved.getEmail());
+		return saved;
 	}
 
 	@Override
 	public void delete(Integer id) {
 		User user = findById(id);
 		repository.delete(user);
+		tableVersions.bump(TableVersions.USER);
+		nameIndex.remove(id);
+		userDetailService.evict(user.getEmail());
 	}
 
 	@Override
 	public List<User> findByName(String name) {
-		List<User> lista = repository.findByNameStartingWithIgnoreCase(name);
+		List<Integer> ids = nameIndex.search(name, maxResults);
+		List<User> lista = ids.isEmpty() ? List.of() : PrefixIndex.inOrder(ids, repository.findAllById(ids), User::getId);
 		if(lista.isEmpty()) {
 			throw new ObjectNotFound("Nenhum nome de usuário inicia com %s".formatted(name));
 		}
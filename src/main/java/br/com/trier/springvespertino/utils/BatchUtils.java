@@ -0,0 +1,50 @@
+package br.com.trier.springvespertino.utils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+import br.com.trier.springvespertino.models.dto.BatchResultDTO;
+import br.com.trier.springvespertino.services.exceptions.IntegrityViolation;
+
+/**
+ * Consulta em lote (?ids=1,2,3): uma consulta IN, resultado na ordem pedida
+ * e os ids inexistentes em missing.
+ */
+public class BatchUtils {
+
+	public static final int MAX_IDS = 200;
+
+	public static List<Integer> ids(List<Integer> ids) {
+		List<Integer> distinct = ids.stream().filter(Objects::nonNull).distinct().toList();
+		if (distinct.isEmpty()) {
+			throw new IntegrityViolation("Nenhum id informado!");
+		}
+		if (distinct.size() > MAX_IDS) {
+			throw new IntegrityViolation("Máximo de %s ids por consulta!".formatted(MAX_IDS));
+		}
+		return distinct;
+	}
+
+	public static <T> BatchResultDTO<T> result(List<Integer> ids, Collection<T> found, Function<T, Integer> id) {
+		Map<Integer, T> byId = new HashMap<>();
+		found.forEach(item -> byId.put(id.apply(item), item));
+		List<T> items = new ArrayList<>(ids.size());
+		List<Integer> missing = new ArrayList<>();
+		for (Integer key : new LinkedHashSet<>(ids)) {
+			T item = byId.get(key);
+			if (item != null) {
+				items.add(item);
+			} else {
+				missing.add(key);
+			}
+		}
+		return new BatchResultDTO<>(items, missing);
+	}
+
+}
@@ -0,0 +1,148 @@
+package br.com.trier.springvespertino.utils;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.UnaryOperator;
+
+/**
+ * Cache com limite de entradas e expiração por entrada, sem lock na leitura.
+ * Entradas expiradas são tratadas como ausentes e descartadas na leitura. Ao passar do limite,
+ * uma varredura remove as expiradas e, se ainda preciso, as menos acessadas até ~90% do limite,
+ * para que a varredura não se repita a cada inclusão.
+ * <p>
+ * Quem carrega de outra fonte usa {@link #generation()} antes de ler e {@link #putIfCurrent}
+ * para guardar: uma invalidação no meio do caminho descarta a carga em vez de guardar o valor antigo.
+ * Com um {@code copier} o cache guarda uma cópia própria e entrega uma cópia a cada leitura, para
+ * que valores mutáveis não sejam compartilhados entre threads.
+ */
+public class BoundedCache<K, V> {
+
+	private final int maxSize;
+	private final int trimTo;
+	private final long ttlMillis;
+	private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+	private final Object evictLock = new Object();
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+	private final AtomicLong generation = new AtomicLong();
+	private final UnaryOperator<V> copier;
+
+	public BoundedCache(int maxSize, long ttlMillis) {
+		this(maxSize, ttlMillis, UnaryOperator.identity());
+	}
+
+	public BoundedCache(int maxSize, long ttlMillis, UnaryOperator<V> copier) {
+		this.maxSize = maxSize;
+		this.trimTo = maxSize - Math.max(1, maxSize / 10);
+		this.ttlMillis = ttlMillis;
+		this.copier = copier;
+	}
+
+	public V get(K key) {
+		Entry<V> entry = entries.get(key);
+		if (entry != null) {
+			long now = System.currentTimeMillis();
+			if (entry.expiresAt > now) {
+				entry.lastAccess = System.nanoTime();
+				hits.incrementAndGet();
+				return copier.apply(entry.value);
+			}
+			entries.remove(key, entry);
+		}
+		misses.incrementAndGet();
+		return null;
+	}
+
+	public void put(K key, V value) {
+		put(key, value, System.currentTimeMillis() + ttlMillis);
+	}
+
+	public void put(K key, V value, long expiresAt) {
+		if (maxSize <= 0) {
+			return;
+		}
+		long now = System.currentTimeMillis();
+		entries.put(key, new Entry<>(copier.apply(value), Math.min(expiresAt, now + ttlMillis), System.nanoTime()));
+		if (entries.size() > maxSize) {
+			evict(now);
+		}
+	}
+
+	/** Marca o início de uma carga; o valor deve ser passado a {@link #putIfCurrent}. */
+	public long generation() {
+		return generation.get();
+	}
+
+	/**
+	 * Guarda o valor só se nenhuma invalidação ocorreu desde {@code generation}. Verificação e
+	 * inclusão são atômicas para a chave, e a invalidação incrementa a geração antes de remover.
+	 */
+	public void putIfCurrent(K key, V value, long generation) {
+		if (maxSize <= 0) {
+			return;
+		}
+		long now = System.currentTimeMillis();
+		Entry<V> entry = new Entry<>(copier.apply(value), now + ttlMillis, System.nanoTime());
+		entries.compute(key, (k, current) -> this.generation.get() == generation ? entry : current);
+		if (entries.size() > maxSize) {
+			evict(now);
+		}
+	}
+
+	public void invalidate(K key) {
+		generation.incrementAndGet();
+		entries.remove(key);
+	}
+
+	public void invalidateAll() {
+		generation.incrementAndGet();
+		entries.clear();
+	}
+
+	public int size() {
+		return entries.size();
+	}
+
+	public long getHits() {
+		return hits.get();
+	}
+
+	public long getMisses() {
+		return misses.get();
+	}
+
+	private void evict(long now) {
+		synchronized (evictLock) {
+			if (entries.size() <= maxSize) {
+				return;
+			}
+			entries.entrySet().removeIf(e -> e.getValue().expiresAt <= now);
+			int excess = entries.size() - trimTo;
+			if (excess > 0) {
+				entries.entrySet().stream()
+						.sorted(Comparator.comparingLong(e -> e.getValue().lastAccess))
+						.limit(excess)
+						.toList()
+						.forEach(e -> entries.remove(e.getKey(), e.getValue()));
+			}
+		}
+	}
+
+	private static final class Entry<V> {
+
+		final V value;
+		final long expiresAt;
+		// nanoTime: só usado para ordenar por acesso
+		volatile long lastAccess;
+
+		Entry(V value, long expiresAt, long lastAccess) {
+			this.value = value;
+			this.expiresAt = expiresAt;
+			this.lastAccess = lastAccess;
+		}
+
+	}
+
+}
@@ -18,4 +18,8 @@ public class DateUtils {
 		return date != null ? dtfBR.format(date) : "";
 	}
 
+	public static ZonedDateTime startOfYear(int year) {
+		return LocalDate.of(year, 1, 1).atStartOfDay(ZoneId.systemDefault());
+	}
+
 }
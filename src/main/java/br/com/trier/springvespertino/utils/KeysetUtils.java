@@ -0,0 +1,45 @@
+package br.com.trier.springvespertino.utils;
+
+import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Paginação por cursor (?after=&lt;id&gt;&amp;limit=): as consultas ordenam por id e
+ * o próximo cursor é devolvido no cabeçalho X-Next-Cursor.
+ */
+public class KeysetUtils {
+
+	public static final int DEFAULT_LIMIT = 100;
+
+	public static final int MAX_LIMIT = 500;
+
+	public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+	public static Integer after(Integer after) {
+		return after != null ? after : Integer.MIN_VALUE;
+	}
+
+	public static int limit(Integer limit) {
+		if (limit == null || limit <= 0) {
+			return DEFAULT_LIMIT;
+		}
+		return Math.min(limit, MAX_LIMIT);
+	}
+
+	public static Pageable page(Integer limit) {
+		return PageRequest.of(0, limit(limit));
+	}
+
+	public static <T> ResponseEntity<List<T>> ok(List<T> items, Function<T, Integer> id, Integer limit) {
+		ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+		if (!items.isEmpty() && items.size() >= limit(limit)) {
+			builder.header(NEXT_CURSOR_HEADER, String.valueOf(id.apply(items.get(items.size() - 1))));
+		}
+		return builder.body(items);
+	}
+
+}
@@ -0,0 +1,244 @@
+package br.com.trier.springvespertino.utils;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Barramento de eventos em memória por chave. Cada assinante tem um buffer limitado; quando cheio
+ * o evento mais antigo é descartado, para que um cliente lento não segure memória nem quem publica.
+ * A entrega acontece no executor informado, nunca na thread que publica, e só após
+ * {@link Subscription#start()}.
+ * <p>
+ * Um envio que não retorna dentro do prazo é detectado por {@link #sweep(long)}: o assinante sai do
+ * barramento, para de acumular eventos, e {@link #getStalledSending()} informa quantas threads do
+ * executor continuam presas, para que quem o criou possa compensá-las.
+ */
+public class LiveEventBus<K, E> {
+
+	@FunctionalInterface
+	public interface Sink<E> {
+		void send(E event) throws Exception;
+
+		// Mantém a conexão viva quando não há eventos; chamado na mesma thread e ordem dos envios
+		default void heartbeat() throws Exception {
+		}
+
+		// O envio travado enfim retornou, mas o assinante já foi removido: encerrar a conexão
+		default void stalled() {
+		}
+	}
+
+	private static final Object HEARTBEAT = new Object();
+
+	private final Map<K, Set<Subscription>> subscriptions = new ConcurrentHashMap<>();
+	private final int bufferSize;
+	private final Executor executor;
+	private final AtomicInteger subscribers = new AtomicInteger();
+	private final AtomicLong published = new AtomicLong();
+	private final AtomicLong dropped = new AtomicLong();
+	private final AtomicLong stalled = new AtomicLong();
+	private final AtomicInteger stalledSending = new AtomicInteger();
+
+	public LiveEventBus(int bufferSize, Executor executor) {
+		this.bufferSize = bufferSize;
+		this.executor = executor;
+	}
+
+	public Subscription subscribe(K key, Sink<E> sink) {
+		Subscription subscription = new Subscription(key, sink);
+		subscriptions.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(subscription);
+		subscribers.incrementAndGet();
+		return subscription;
+	}
+
+	public void unsubscribe(Subscription subscription) {
+		subscriptions.computeIfPresent(subscription.key, (k, set) -> {
+			if (set.remove(subscription)) {
+				subscribers.decrementAndGet();
+			}
+			return set.isEmpty() ? null : set;
+		});
+	}
+
+	public void publish(K key, E event) {
+		published.incrementAndGet();
+		Set<Subscription> set = subscriptions.get(key);
+		if (set != null) {
+			set.forEach(subscription -> subscription.offer(event));
+		}
+	}
+
+	/**
+	 * Envia um heartbeat a cada assinante iniciado com o buffer vazio; quem tem eventos pendentes
+	 * já vai receber tráfego.
+	 */
+	public void heartbeat() {
+		subscriptions.values().forEach(set -> set.forEach(Subscription::offerHeartbeat));
+	}
+
+	/**
+	 * Remove os assinantes cujo envio em andamento passou do prazo e devolve quantos foram removidos.
+	 */
+	public int sweep(long timeoutNanos) {
+		long now = System.nanoTime();
+		int count = 0;
+		for (Set<Subscription> set : subscriptions.values()) {
+			for (Subscription subscription : set) {
+				if (subscription.stall(now, timeoutNanos)) {
+					count++;
+				}
+			}
+		}
+		return count;
+	}
+
+	public int getSubscribers() {
+		return subscribers.get();
+	}
+
+	public long getPublished() {
+		return published.get();
+	}
+
+	public long getDropped() {
+		return dropped.get();
+	}
+
+	public long getStalled() {
+		return stalled.get();
+	}
+
+	public int getStalledSending() {
+		return stalledSending.get();
+	}
+
+	public class Subscription {
+
+		private final K key;
+		private final Sink<E> sink;
+		private final Deque<Object> buffer = new ArrayDeque<>();
+		// Garante um único dreno por assinante, preservando a ordem dos eventos; começa pausado
+		private final AtomicBoolean scheduled = new AtomicBoolean(true);
+		private final AtomicBoolean stalledFlag = new AtomicBoolean();
+		// Início do envio em andamento, 0 quando ocioso
+		private long sendingSince;
+
+		private Subscription(K key, Sink<E> sink) {
+			this.key = key;
+			this.sink = sink;
+		}
+
+		/**
+		 * Inicia a entrega. Até aqui os eventos ficam no buffer, o que permite enviar um estado
+		 * inicial antes sem perder o que foi publicado enquanto ele era consultado.
+		 */
+		public void start() {
+			boolean empty;
+			synchronized (buffer) {
+				scheduled.set(false);
+				empty = buffer.isEmpty();
+			}
+			if (!empty) {
+				schedule();
+			}
+		}
+
+		public void offer(E event) {
+			synchronized (buffer) {
+				if (buffer.size() >= bufferSize) {
+					buffer.pollFirst();
+					dropped.incrementAndGet();
+				}
+				buffer.addLast(event);
+			}
+			schedule();
+		}
+
+		private void offerHeartbeat() {
+			synchronized (buffer) {
+				if (scheduled.get() || !buffer.isEmpty()) {
+					return;
+				}
+				buffer.addLast(HEARTBEAT);
+			}
+			schedule();
+		}
+
+		private boolean stall(long now, long timeoutNanos) {
+			synchronized (buffer) {
+				// Sob o lock do dreno: ou o envio já terminou, ou ele verá a marca ao terminar
+				if (sendingSince == 0 || now - sendingSince < timeoutNanos || stalledFlag.get()) {
+					return false;
+				}
+				stalledFlag.set(true);
+				stalledSending.incrementAndGet();
+				buffer.clear();
+			}
+			unsubscribe(this);
+			stalled.incrementAndGet();
+			return true;
+		}
+
+		private void schedule() {
+			if (scheduled.compareAndSet(false, true)) {
+				executor.execute(this::drain);
+			}
+		}
+
+		private void drain() {
+			while (true) {
+				Object event;
+				synchronized (buffer) {
+					event = buffer.pollFirst();
+					if (event == null) {
+						// Liberado sob o mesmo lock do offer: nenhum evento fica sem dreno
+						scheduled.set(false);
+						return;
+					}
+					sendingSince = System.nanoTime();
+				}
+				boolean stalledNow;
+				try {
+					send(event);
+				} catch (Exception e) {
+					// Cliente desconectado
+					unsubscribe(this);
+					synchronized (buffer) {
+						buffer.clear();
+					}
+					return;
+				} finally {
+					synchronized (buffer) {
+						sendingSince = 0;
+						stalledNow = stalledFlag.get();
+					}
+					if (stalledNow) {
+						stalledSending.decrementAndGet();
+					}
+				}
+				if (stalledNow) {
+					sink.stalled();
+					return;
+				}
+			}
+		}
+
+		@SuppressWarnings("unchecked")
+		private void send(Object event) throws Exception {
+			if (event == HEARTBEAT) {
+				sink.heartbeat();
+			} else {
+				sink.send((E) event);
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,63 @@
+package br.com.trier.springvespertino.utils;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Coordena agregados em memória carregados do banco e atualizados por deltas das escritas.
+ * O delta só é aplicado após o commit (um rollback não deixa rastro), e uma carga só pode ser
+ * guardada se nenhuma escrita estava pendente nem terminou enquanto ela lia o banco: nesses casos
+ * não há como saber se a leitura já enxergou a escrita.
+ */
+public class LoadGuard {
+
+	private final AtomicLong generation = new AtomicLong();
+	private final AtomicInteger pending = new AtomicInteger();
+
+	/**
+	 * Registra uma escrita. Dentro de uma transação {@code apply} roda no afterCommit; sem transação
+	 * a escrita já foi gravada e {@code apply} roda imediatamente.
+	 */
+	public void onWrite(Runnable apply) {
+		generation.incrementAndGet();
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			apply.run();
+			generation.incrementAndGet();
+			return;
+		}
+		pending.incrementAndGet();
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				apply.run();
+			}
+
+			@Override
+			public void afterCompletion(int status) {
+				generation.incrementAndGet();
+				pending.decrementAndGet();
+			}
+		});
+	}
+
+	public void invalidate() {
+		generation.incrementAndGet();
+	}
+
+	/** Marca o início de uma carga; o valor deve ser passado a {@link #canStore(long)}. */
+	public long start() {
+		return generation.get();
+	}
+
+	/**
+	 * Verdadeiro se a carga iniciada em {@code start} pode ser guardada. Deve ser chamado dentro da
+	 * mesma operação atômica que guarda o valor (ex.: {@code ConcurrentHashMap.compute}).
+	 */
+	public boolean canStore(long start) {
+		return pending.get() == 0 && generation.get() == start;
+	}
+
+}
@@ -0,0 +1,40 @@
+package br.com.trier.springvespertino.utils;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+public class NdjsonUtils {
+
+	public static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+	public static final String NDJSON_VALUE = "application/x-ndjson";
+
+	/**
+	 * Escreve cada item recebido do produtor como uma linha JSON, sem acumular a lista em memória.
+	 */
+	public static <T> StreamingResponseBody body(ObjectMapper mapper, Consumer<Consumer<T>> producer) {
+		ObjectWriter writer = mapper.writer();
+		return output -> {
+			OutputStream out = new BufferedOutputStream(output, 64 * 1024);
+			producer.accept(item -> {
+				try {
+					out.write(writer.writeValueAsBytes(item));
+					out.write('\n');
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			});
+			out.flush();
+		};
+	}
+
+}
@@ -0,0 +1,13 @@
+package br.com.trier.springvespertino.utils;
+
+import java.util.regex.Pattern;
+
+public class PasswordUtils {
+
+	private static final Pattern BCRYPT = Pattern.compile("^\\$2[aby]?\\$\\d\\d\\$[./0-9A-Za-z]{53}$");
+
+	public static boolean isEncoded(String password) {
+		return password != null && BCRYPT.matcher(password).matches();
+	}
+
+}
@@ -0,0 +1,153 @@
+package br.com.trier.springvespertino.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import br.com.trier.springvespertino.models.dto.IdNameDTO;
+
+/**
+ * Índice em memória de nomes normalizados (sem acento, minúsculos) para busca por prefixo.
+ * Leituras usam um snapshot imutável ordenado; escritas publicam uma cópia nova via CAS.
+ * É carregado na primeira busca; escritas anteriores à carga ficam a cargo do banco.
+ */
+public class PrefixIndex {
+
+	private static final Comparator<Entry> ORDER = Comparator.comparing((Entry e) -> e.key)
+			.thenComparingInt(e -> e.id);
+
+	private final Supplier<? extends Collection<IdNameDTO>> loader;
+	private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+
+	// Incrementado a cada escrita; uma carga que concorreu com uma escrita não é publicada
+	private final AtomicLong generation = new AtomicLong();
+
+	public PrefixIndex(Supplier<? extends Collection<IdNameDTO>> loader) {
+		this.loader = loader;
+	}
+
+	public List<Integer> search(String prefix, int limit) {
+		String key = TextNormalizer.normalize(prefix);
+		if (key == null || limit <= 0) {
+			return List.of();
+		}
+		Entry[] entries = current().entries;
+		int i = Arrays.binarySearch(entries, new Entry(key, Integer.MIN_VALUE), ORDER);
+		List<Integer> ids = new ArrayList<>();
+		for (i = i < 0 ? -i - 1 : i; i < entries.length && ids.size() < limit && entries[i].key.startsWith(key); i++) {
+			ids.add(entries[i].id);
+		}
+		return ids;
+	}
+
+	public void put(Integer id, String name) {
+		generation.incrementAndGet();
+		snapshot.updateAndGet(s -> s == null ? null : s.without(id).with(id, name));
+	}
+
+	public void remove(Integer id) {
+		generation.incrementAndGet();
+		snapshot.updateAndGet(s -> s == null ? null : s.without(id));
+	}
+
+	public int size() {
+		Snapshot s = snapshot.get();
+		return s == null ? 0 : s.entries.length;
+	}
+
+	// Reordena entidades carregadas por id na ordem devolvida pelo índice
+	public static <T> List<T> inOrder(List<Integer> ids, Collection<T> items, Function<T, Integer> idOf) {
+		Map<Integer, T> byId = new HashMap<>();
+		items.forEach(item -> byId.put(idOf.apply(item), item));
+		return ids.stream().map(byId::get).filter(item -> item != null).toList();
+	}
+
+	private Snapshot current() {
+		Snapshot s = snapshot.get();
+		if (s != null) {
+			return s;
+		}
+		long start = generation.get();
+		Snapshot loaded = Snapshot.of(loader.get());
+		if (generation.get() != start || !snapshot.compareAndSet(null, loaded)) {
+			s = snapshot.get();
+			return s != null ? s : loaded;
+		}
+		// Uma escrita entre a verificação e o CAS encontrou o snapshot nulo e não foi aplicada:
+		// a carga publicada pode não conter essa escrita, então é descartada (a próxima busca recarrega).
+		// Escritas que incrementam a geração depois desta verificação já enxergam o snapshot publicado.
+		if (generation.get() != start) {
+			snapshot.set(null);
+		}
+		return loaded;
+	}
+
+	private record Entry(String key, int id) {
+	}
+
+	private static final class Snapshot {
+
+		private final Entry[] entries;
+		private final Map<Integer, String> keys;
+
+		private Snapshot(Entry[] entries, Map<Integer, String> keys) {
+			this.entries = entries;
+			this.keys = keys;
+		}
+
+		static Snapshot of(Collection<IdNameDTO> rows) {
+			Map<Integer, String> keys = new HashMap<>();
+			List<Entry> entries = new ArrayList<>();
+			for (IdNameDTO row : rows) {
+				String key = TextNormalizer.normalize(row.getName());
+				if (key != null) {
+					keys.put(row.getId(), key);
+					entries.add(new Entry(key, row.getId()));
+				}
+			}
+			Entry[] sorted = entries.toArray(Entry[]::new);
+			Arrays.sort(sorted, ORDER);
+			return new Snapshot(sorted, keys);
+		}
+
+		Snapshot with(Integer id, String name) {
+			String key = TextNormalizer.normalize(name);
+			if (key == null) {
+				return this;
+			}
+			Entry entry = new Entry(key, id);
+			int at = -Arrays.binarySearch(entries, entry, ORDER) - 1;
+			Entry[] copy = new Entry[entries.length + 1];
+			System.arraycopy(entries, 0, copy, 0, at);
+			copy[at] = entry;
+			System.arraycopy(entries, at, copy, at + 1, entries.length - at);
+			Map<Integer, String> copyKeys = new HashMap<>(keys);
+			copyKeys.put(id, key);
+			return new Snapshot(copy, copyKeys);
+		}
+
+		Snapshot without(Integer id) {
+			String key = keys.get(id);
+			if (key == null) {
+				return this;
+			}
+			int at = Arrays.binarySearch(entries, new Entry(key, id), ORDER);
+			Entry[] copy = new Entry[entries.length - 1];
+			System.arraycopy(entries, 0, copy, 0, at);
+			System.arraycopy(entries, at + 1, copy, at, entries.length - at - 1);
+			Map<Integer, String> copyKeys = new HashMap<>(keys);
+			copyKeys.remove(id);
+			return new Snapshot(copy, copyKeys);
+		}
+
+	}
+
+}
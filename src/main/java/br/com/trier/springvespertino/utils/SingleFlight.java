@@ -0,0 +1,91 @@
+package br.com.trier.springvespertino.utils;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Agrupa chamadas concorrentes com a mesma chave: a primeira executa a consulta e
+ * as demais aguardam e recebem o mesmo resultado (ou a mesma exceção).
+ * Dentro de uma transação a chamada não é compartilhada, pois pode enxergar escritas ainda não confirmadas.
+ * <p>
+ * {@code version} deve mudar a cada escrita confirmada nas tabelas lidas (ex.: {@code TableVersions}):
+ * uma chamada só aguarda uma consulta iniciada na versão atual ou depois, para que quem acabou de
+ * gravar não receba o resultado de uma consulta anterior à própria escrita.
+ */
+public class SingleFlight<K, V> {
+
+	private final Map<K, Flight<V>> inFlight = new ConcurrentHashMap<>();
+	private final LongSupplier version;
+	private final AtomicLong calls = new AtomicLong();
+	private final AtomicLong deduplicated = new AtomicLong();
+
+	public SingleFlight() {
+		this(() -> 0);
+	}
+
+	public SingleFlight(LongSupplier version) {
+		this.version = version;
+	}
+
+	public V execute(K key, Supplier<V> loader) {
+		calls.incrementAndGet();
+		if (TransactionSynchronizationManager.isActualTransactionActive()) {
+			return loader.get();
+		}
+		Flight<V> flight = new Flight<>(new CompletableFuture<>(), version.getAsLong());
+		// Uma consulta anterior à última escrita é substituída; ela termina sozinha e não é mais compartilhada
+		Flight<V> leader = inFlight.compute(key,
+				(k, current) -> current != null && current.version >= flight.version ? current : flight);
+		if (leader != flight) {
+			deduplicated.incrementAndGet();
+			return await(leader.future);
+		}
+		try {
+			V value = loader.get();
+			flight.future.complete(value);
+			return value;
+		} catch (RuntimeException | Error e) {
+			flight.future.completeExceptionally(e);
+			throw e;
+		} finally {
+			inFlight.remove(key, flight);
+		}
+	}
+
+	private V await(CompletableFuture<V> leader) {
+		try {
+			return leader.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			if (e.getCause() instanceof Error cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+
+	public long getCalls() {
+		return calls.get();
+	}
+
+	public long getDeduplicated() {
+		return deduplicated.get();
+	}
+
+	public int getInFlight() {
+		return inFlight.size();
+	}
+
+	private record Flight<V>(CompletableFuture<V> future, long version) {
+	}
+
+}
@@ -0,0 +1,19 @@
+package br.com.trier.springvespertino.utils;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+public class TextNormalizer {
+
+	private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+
+	// "Ângelo Conceição" -> "angelo conceicao"
+	public static String normalize(String text) {
+		if (text == null) {
+			return null;
+		}
+		return MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("").toLowerCase(Locale.ROOT);
+	}
+
+}
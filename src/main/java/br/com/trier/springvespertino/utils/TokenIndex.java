@@ -0,0 +1,145 @@
+package br.com.trier.springvespertino.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+import br.com.trier.springvespertino.models.dto.IdNameDTO;
+
+/**
+ * Índice invertido de palavras normalizadas (sem acento, minúsculas) para busca textual.
+ * Cada palavra da consulta casa com palavras iguais (2 pontos) ou que começam com ela (1 ponto);
+ * o resultado é ordenado por pontuação, depois pelo texto mais curto e pelo id.
+ * A reconstrução monta um índice novo à parte e o publica de uma vez.
+ */
+public class TokenIndex {
+
+	private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+	private final AtomicReference<Postings> current = new AtomicReference<>(new Postings());
+
+	// Incrementado a cada escrita; uma reconstrução que concorreu com uma escrita é refeita
+	private final AtomicLong generation = new AtomicLong();
+
+	public static Set<String> tokenize(String text) {
+		String normalized = TextNormalizer.normalize(text);
+		if (normalized == null) {
+			return Set.of();
+		}
+		Set<String> tokens = new LinkedHashSet<>(Arrays.asList(SEPARATORS.split(normalized)));
+		tokens.remove("");
+		return tokens;
+	}
+
+	/**
+	 * Recarrega o índice inteiro. Uma escrita durante a carga pode ter ido para o índice antigo ou
+	 * não estar nas linhas lidas, então a carga é repetida até terminar sem escritas concorrentes;
+	 * escritas que incrementam a geração depois da verificação já enxergam o índice publicado.
+	 */
+	public void rebuild(Supplier<? extends Collection<IdNameDTO>> loader) {
+		long start;
+		do {
+			start = generation.get();
+			Postings next = new Postings();
+			loader.get().forEach(row -> next.put(row.getId(), row.getName()));
+			current.set(next);
+		} while (generation.get() != start);
+	}
+
+	public void put(Integer id, String text) {
+		generation.incrementAndGet();
+		current.get().put(id, text);
+	}
+
+	public void remove(Integer id) {
+		generation.incrementAndGet();
+		current.get().remove(id);
+	}
+
+	public List<Integer> search(String query, int limit) {
+		Set<String> terms = tokenize(query);
+		if (terms.isEmpty() || limit <= 0) {
+			return List.of();
+		}
+		Postings postings = current.get();
+		Map<Integer, Integer> scores = new HashMap<>();
+		for (String term : terms) {
+			Map<Integer, Integer> best = new HashMap<>();
+			postings.postings.subMap(term, true, term + Character.MAX_VALUE, false).forEach((token, ids) -> {
+				int points = token.equals(term) ? 2 : 1;
+				ids.forEach(id -> best.merge(id, points, Math::max));
+			});
+			best.forEach((id, points) -> scores.merge(id, points, Integer::sum));
+		}
+		List<Map.Entry<Integer, Integer>> ranked = new ArrayList<>(scores.entrySet());
+		ranked.sort(Comparator.<Map.Entry<Integer, Integer>>comparingInt(e -> -e.getValue())
+				.thenComparingInt(e -> postings.tokensById.getOrDefault(e.getKey(), Set.of()).size())
+				.thenComparing(Map.Entry::getKey));
+		return ranked.stream().limit(limit).map(Map.Entry::getKey).toList();
+	}
+
+	public int size() {
+		return current.get().tokensById.size();
+	}
+
+	int tokenCount() {
+		return current.get().postings.size();
+	}
+
+	private static final class Postings {
+
+		private final ConcurrentSkipListMap<String, Set<Integer>> postings = new ConcurrentSkipListMap<>();
+		private final Map<Integer, Set<String>> tokensById = new ConcurrentHashMap<>();
+
+		// O compute de tokensById serializa as escritas de um mesmo id entre si
+		void put(Integer id, String text) {
+			Set<String> tokens = tokenize(text);
+			tokensById.compute(id, (key, previous) -> {
+				if (previous != null) {
+					previous.forEach(token -> unpost(token, id));
+				}
+				tokens.forEach(token -> post(token, id));
+				return tokens;
+			});
+		}
+
+		void remove(Integer id) {
+			tokensById.computeIfPresent(id, (key, previous) -> {
+				previous.forEach(token -> unpost(token, id));
+				return null;
+			});
+		}
+
+		// Listas de postings são imutáveis e trocadas inteiras: o compute do skip list pode repetir a função
+		private void post(String token, Integer id) {
+			postings.compute(token, (key, ids) -> {
+				Set<Integer> copy = ids == null ? new HashSet<>() : new HashSet<>(ids);
+				copy.add(id);
+				return Set.copyOf(copy);
+			});
+		}
+
+		private void unpost(String token, Integer id) {
+			postings.computeIfPresent(token, (key, ids) -> {
+				Set<Integer> copy = new HashSet<>(ids);
+				copy.remove(id);
+				return copy.isEmpty() ? null : Set.copyOf(copy);
+			});
+		}
+
+	}
+
+}
@@ -0,0 +1,70 @@
+package db.migration;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.flywaydb.core.api.FlywayException;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+/**
+ * Ajusta bancos que já existiam antes do Flyway (baseline na versão 1, sem rodar o V1):
+ * cria a sequência de piloto_corrida se faltar e a posiciona depois do maior id, que pode ter
+ * vindo de uma coluna identity, e cria o índice único de resultado por piloto e corrida. Resultados
+ * repetidos fazem a migração falhar antes de qualquer alteração, com a lista deles, em vez de
+ * apagar dados por conta própria.
+ */
+public class V3__pilot_race_sequence_and_unique_result extends BaseJavaMigration {
+
+	// Igual ao allocationSize de PilotRace: o otimizador pooled usa os ids (valor - 49) até valor
+	private static final int INCREMENT = 50;
+
+	@Override
+	public void migrate(Context context) throws Exception {
+		Connection connection = context.getConnection();
+		try (Statement statement = connection.createStatement()) {
+			List<String> duplicated = new ArrayList<>();
+			try (ResultSet rs = statement.executeQuery("select pilot_id_piloto, race_id_corrida, count(*) from piloto_corrida"
+					+ " group by pilot_id_piloto, race_id_corrida having count(*) > 1"
+					+ " order by race_id_corrida, pilot_id_piloto")) {
+				while (rs.next()) {
+					duplicated.add("piloto %s na corrida %s (%s linhas)".formatted(rs.getObject(1), rs.getObject(2), rs.getLong(3)));
+				}
+			}
+			if (!duplicated.isEmpty()) {
+				throw new FlywayException("piloto_corrida tem resultados repetidos: " + String.join(", ", duplicated)
+						+ ". Mantenha um resultado por piloto em cada corrida e rode a migração novamente.");
+			}
+			statement.execute("create sequence if not exists piloto_corrida_seq start with 1 increment by " + INCREMENT);
+			long required = queryLong(statement, "select coalesce(max(id), 0) from piloto_corrida") + INCREMENT;
+			if (nextValue(connection, statement) < required) {
+				statement.execute("alter sequence piloto_corrida_seq restart with " + required);
+			}
+			statement.execute("create unique index uk_piloto_corrida_piloto_corrida on piloto_corrida (pilot_id_piloto, race_id_corrida)");
+		}
+	}
+
+	// Próximo valor que nextval devolveria, sem consumir a sequência
+	private static long nextValue(Connection connection, Statement statement) throws SQLException {
+		if (connection.getMetaData().getDatabaseProductName().equals("PostgreSQL")) {
+			try (ResultSet rs = statement.executeQuery("select last_value, is_called from piloto_corrida_seq")) {
+				rs.next();
+				return rs.getBoolean(2) ? rs.getLong(1) + INCREMENT : rs.getLong(1);
+			}
+		}
+		return queryLong(statement,
+				"select base_value from information_schema.sequences where lower(sequence_name) = 'piloto_corrida_seq'");
+	}
+
+	private static long queryLong(Statement statement, String sql) throws SQLException {
+		try (ResultSet rs = statement.executeQuery(sql)) {
+			rs.next();
+			return rs.getLong(1);
+		}
+	}
+
+}
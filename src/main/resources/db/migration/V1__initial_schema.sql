@@ -0,0 +1,71 @@
+-- Esquema equivalente ao gerado pelo Hibernate (ddl-auto=update) até esta versão.
+-- Bancos existentes entram nesta versão pelo baseline e seguem a partir da V2.
+
+create sequence piloto_corrida_seq start with 1 increment by 50;
+
+create table pais (
+	id integer generated by default as identity,
+	name varchar(255) unique,
+	primary key (id)
+);
+
+create table equipe (
+	id_quipe integer generated by default as identity,
+	nome_equipe varchar(255) unique,
+	primary key (id_quipe)
+);
+
+create table campeonato (
+	codigo_campeonato integer generated by default as identity,
+	descricao varchar(255),
+	ano integer,
+	primary key (codigo_campeonato)
+);
+
+create table usuario (
+	id_usuario integer generated by default as identity,
+	nome_usuario varchar(255),
+	email_usuario varchar(255) unique,
+	senha_usuario varchar(255),
+	permissoes_usuario varchar(255),
+	primary key (id_usuario)
+);
+
+create table piloto (
+	id_piloto integer generated by default as identity,
+	nome_piloto varchar(255),
+	country_id integer not null,
+	team_id_quipe integer not null,
+	primary key (id_piloto),
+	constraint fk_piloto_pais foreign key (country_id) references pais,
+	constraint fk_piloto_equipe foreign key (team_id_quipe) references equipe
+);
+
+create table pista (
+	id_pista integer generated by default as identity,
+	nome_pista varchar(255),
+	tamanho_pista integer,
+	country_id integer,
+	primary key (id_pista),
+	constraint fk_pista_pais foreign key (country_id) references pais
+);
+
+create table corrida (
+	id_corrida integer generated by default as identity,
+	data_corrida timestamp(6) with time zone,
+	speedway_id_pista integer not null,
+	championship_codigo_campeonato integer not null,
+	primary key (id_corrida),
+	constraint fk_corrida_pista foreign key (speedway_id_pista) references pista,
+	constraint fk_corrida_campeonato foreign key (championship_codigo_campeonato) references campeonato
+);
+
+create table piloto_corrida (
+	id integer not null,
+	colocacao integer,
+	pilot_id_piloto integer,
+	race_id_corrida integer,
+	primary key (id),
+	constraint fk_piloto_corrida_piloto foreign key (pilot_id_piloto) references piloto,
+	constraint fk_piloto_corrida_corrida foreign key (race_id_corrida) references corrida
+);
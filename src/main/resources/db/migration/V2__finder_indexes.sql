@@ -0,0 +1,25 @@
+-- Índices para os finders dos repositórios; chaves estrangeiras não são indexadas automaticamente.
+
+-- PilotRaceRepository: findByRaceOrderByPlacementAsc, findByPlacementBetweenAndRace, countPlacementsByChampionship
+create index idx_piloto_corrida_corrida_colocacao on piloto_corrida (race_id_corrida, colocacao);
+-- PilotRaceRepository: findByPilot, findByPilotAndRace usam o índice único criado no V3
+-- PilotRaceRepository: findByPlacement
+create index idx_piloto_corrida_colocacao on piloto_corrida (colocacao);
+
+-- RaceRepository: findBySpeedway, findByCountryAndDateRange (junção com pista)
+create index idx_corrida_pista on corrida (speedway_id_pista);
+-- RaceRepository: findByChampionship
+create index idx_corrida_campeonato on corrida (championship_codigo_campeonato);
+-- RaceRepository: findByDate, findByCountryAndDateRange
+create index idx_corrida_data on corrida (data_corrida);
+
+-- PilotRepository: findByCountry, findByTeam
+create index idx_piloto_pais on piloto (country_id);
+create index idx_piloto_equipe on piloto (team_id_quipe);
+
+-- SpeedwayRepository: findByCountryOrderBySizeDesc, findBySizeBetween
+create index idx_pista_pais_tamanho on pista (country_id, tamanho_pista);
+create index idx_pista_tamanho on pista (tamanho_pista);
+
+-- ChampionshipRepository: findByYear, findByYearBetween
+create index idx_campeonato_ano on campeonato (ano);
@@ -0,0 +1,56 @@
+package br.com.trier.springvespertino;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.Sql.ExecutionPhase;
+import org.springframework.test.context.jdbc.SqlMergeMode;
+import org.springframework.test.context.jdbc.SqlMergeMode.MergeMode;
+
+import br.com.trier.springvespertino.config.CacheRegistry;
+import br.com.trier.springvespertino.services.ChampionshipService;
+import br.com.trier.springvespertino.services.ChampionshipStandingsService;
+import br.com.trier.springvespertino.services.PilotStatsService;
+import br.com.trier.springvespertino.services.TeamSeasonService;
+import br.com.trier.springvespertino.utils.BoundedCache;
+
+/**
+ * Base dos testes que dependem do commit: eventos após o commit, caches e requisições HTTP. Não há
+ * transação em volta do teste, então as tabelas são limpas antes e depois de cada um; os dados do
+ * teste vêm de @Sql no método. Como o contexto é compartilhado, o estado em memória dos serviços
+ * também é descartado antes de cada teste.
+ */
+@SqlMergeMode(MergeMode.MERGE)
+@Sql(scripts = "classpath:/resources/sqls/limpa_tabelas.sql", executionPhase = ExecutionPhase.BEFORE_TEST_METHOD)
+@Sql(scripts = "classpath:/resources/sqls/limpa_tabelas.sql", executionPhase = ExecutionPhase.AFTER_TEST_METHOD)
+public abstract class BaseCommitTest extends BaseTest {
+
+	@Autowired
+	protected TestRestTemplate rest;
+
+	@Autowired
+	private CacheRegistry cacheRegistry;
+
+	@Autowired
+	private ChampionshipStandingsService standingsService;
+
+	@Autowired
+	private TeamSeasonService teamSeasonService;
+
+	@Autowired
+	private PilotStatsService pilotStatsService;
+
+	@Autowired
+	private ChampionshipService championshipService;
+
+	@BeforeEach
+	void resetState() {
+		cacheRegistry.getCaches().values().forEach(BoundedCache::invalidateAll);
+		standingsService.evictAll();
+		teamSeasonService.evictAll();
+		pilotStatsService.rebuildAll();
+		championshipService.rebuildSearchIndex();
+	}
+
+}
@@ -8,8 +8,9 @@ import org.springframework.test.context.ActiveProfiles;
 import br.com.trier.springvespertino.services.UserService;
 import br.com.trier.springvespertino.services.impl.UserServiceImpl;
 
+// Mesma configuração dos testes de resources: um único contexto e um único banco para todas as classes
 @TestConfiguration
-@SpringBootTest
+@SpringBootTest(classes = SpringVespertinoApplication.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
 @ActiveProfiles("test")
 public class BaseTest {
 	
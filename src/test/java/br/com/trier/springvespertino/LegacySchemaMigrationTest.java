@@ -0,0 +1,108 @@
+package br.com.trier.springvespertino;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.FlywayException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.NestedExceptionUtils;
+
+// Bancos anteriores ao Flyway: esquema criado fora das migrações e baseline na versão 1
+public class LegacySchemaMigrationTest {
+
+	private static final String URL = "jdbc:h2:mem:legacy;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+	private Connection connection;
+
+	private Flyway flyway;
+
+	@BeforeEach
+	void setUp() throws SQLException {
+		connection = DriverManager.getConnection(URL, "sa", "");
+		execute("runscript from 'classpath:db/migration/V1__initial_schema.sql'");
+		execute("insert into pais (id, name) values (1, 'Brasil')");
+		execute("insert into equipe (id_quipe, nome_equipe) values (1, 'Equipe')");
+		execute("insert into piloto (id_piloto, nome_piloto, country_id, team_id_quipe) values (1, 'Piloto 1', 1, 1), (2, 'Piloto 2', 1, 1)");
+		execute("insert into pista (id_pista, nome_pista, tamanho_pista, country_id) values (1, 'Interlagos', 4309, 1)");
+		execute("insert into campeonato (codigo_campeonato, descricao, ano) values (1, 'Campeonato', 2020)");
+		execute("insert into corrida (id_corrida, data_corrida, speedway_id_pista, championship_codigo_campeonato) values (1, current_timestamp, 1, 1)");
+		flyway = Flyway.configure().dataSource(URL, "sa", "").baselineOnMigrate(true).baselineVersion("1").load();
+	}
+
+	@AfterEach
+	void tearDown() throws SQLException {
+		execute("drop all objects");
+		connection.close();
+	}
+
+	private void execute(String sql) throws SQLException {
+		try (Statement statement = connection.createStatement()) {
+			statement.execute(sql);
+		}
+	}
+
+	private long nextval() throws SQLException {
+		try (Statement statement = connection.createStatement();
+				ResultSet rs = statement.executeQuery("select nextval('piloto_corrida_seq')")) {
+			rs.next();
+			return rs.getLong(1);
+		}
+	}
+
+	@Test
+	@DisplayName("Teste sequência criada depois do maior id quando não existe")
+	void missingSequenceTest() throws SQLException {
+		execute("drop sequence piloto_corrida_seq");
+		execute("insert into piloto_corrida (id, colocacao, pilot_id_piloto, race_id_corrida) values (7, 1, 1, 1), (130, 2, 2, 1)");
+		flyway.migrate();
+		assertEquals("3", flyway.info().current().getVersion().getVersion());
+		// O otimizador pooled usa os ids nextval - 49 até nextval
+		assertEquals(180, nextval());
+	}
+
+	@Test
+	@DisplayName("Teste sequência atrás dos ids de identity é avançada")
+	void lowSequenceTest() throws SQLException {
+		execute("insert into piloto_corrida (id, colocacao, pilot_id_piloto, race_id_corrida) values (130, 1, 1, 1)");
+		flyway.migrate();
+		assertEquals(180, nextval());
+	}
+
+	@Test
+	@DisplayName("Teste sequência já adiante não volta")
+	void highSequenceTest() throws SQLException {
+		execute("alter sequence piloto_corrida_seq restart with 1000");
+		execute("insert into piloto_corrida (id, colocacao, pilot_id_piloto, race_id_corrida) values (130, 1, 1, 1)");
+		flyway.migrate();
+		assertEquals(1000, nextval());
+	}
+
+	@Test
+	@DisplayName("Teste resultados repetidos impedem o índice único com mensagem clara")
+	void duplicatedResultsTest() throws SQLException {
+		execute("insert into piloto_corrida (id, colocacao, pilot_id_piloto, race_id_corrida) values (1, 1, 1, 1), (2, 3, 1, 1), (3, 2, 2, 1)");
+		var ex = assertThrows(FlywayException.class, () -> flyway.migrate());
+		// O Flyway embrulha a exceção da migração
+		assertTrue(NestedExceptionUtils.getMostSpecificCause(ex).getMessage().contains("piloto_corrida tem resultados repetidos: piloto 1 na corrida 1 (2 linhas)"));
+		// No H2 a falha fica registrada e pede repair; no PostgreSQL a migração é desfeita e o repair não muda nada
+		assertTrue(flyway.info().current().getState().isFailed());
+		flyway.repair();
+		execute("delete from piloto_corrida where id = 2");
+		flyway.migrate();
+		assertEquals("3", flyway.info().current().getVersion().getVersion());
+		assertThrows(SQLException.class,
+				() -> execute("insert into piloto_corrida (id, colocacao, pilot_id_piloto, race_id_corrida) values (4, 1, 2, 1)"));
+	}
+
+}
@@ -0,0 +1,105 @@
+package br.com.trier.springvespertino;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.TestPropertySource;
+
+import br.com.trier.springvespertino.models.Championship;
+import br.com.trier.springvespertino.models.Country;
+import br.com.trier.springvespertino.models.Pilot;
+import br.com.trier.springvespertino.models.PilotRace;
+import br.com.trier.springvespertino.models.Race;
+import br.com.trier.springvespertino.models.Speedway;
+import br.com.trier.springvespertino.models.Team;
+import br.com.trier.springvespertino.repositories.ChampionshipRepository;
+import br.com.trier.springvespertino.repositories.CountryRepository;
+import br.com.trier.springvespertino.repositories.PilotRaceRepository;
+import br.com.trier.springvespertino.repositories.PilotRepository;
+import br.com.trier.springvespertino.repositories.RaceRepository;
+import br.com.trier.springvespertino.repositories.SpeedwayRepository;
+import br.com.trier.springvespertino.repositories.TeamRepository;
+import br.com.trier.springvespertino.services.PilotRaceService;
+import br.com.trier.springvespertino.services.exceptions.IntegrityViolation;
+import br.com.trier.springvespertino.utils.DateUtils;
+import jakarta.transaction.Transactional;
+
+// Esquema criado pelas migrações e validado pelo Hibernate, como no perfil dev
+@Transactional
+@TestPropertySource(properties = {
+		"spring.datasource.url=jdbc:h2:mem:migration;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_ON_EXIT=FALSE",
+		"spring.flyway.enabled=true", "spring.jpa.hibernate.ddl-auto=validate" })
+public class SchemaMigrationTest extends BaseTest {
+
+	@Autowired
+	Flyway flyway;
+
+	@Autowired
+	PilotRaceService pilotRaceService;
+
+	@Autowired
+	PilotRaceRepository pilotRaceRepository;
+
+	@Autowired
+	CountryRepository countryRepository;
+
+	@Autowired
+	TeamRepository teamRepository;
+
+	@Autowired
+	PilotRepository pilotRepository;
+
+	@Autowired
+	SpeedwayRepository speedwayRepository;
+
+	@Autowired
+	ChampionshipRepository championshipRepository;
+
+	@Autowired
+	RaceRepository raceRepository;
+
+	Pilot pilot;
+	Race race;
+
+	@BeforeEach
+	void setUp() {
+		Country country = countryRepository.save(new Country(null, "Brasil"));
+		Team team = teamRepository.save(new Team(null, "Equipe A"));
+		pilot = pilotRepository.save(new Pilot(null, "Piloto 1", country, team));
+		Speedway speedway = speedwayRepository.save(new Speedway(null, "Interlagos", 4309, country));
+		Championship championship = championshipRepository.save(new Championship(null, "Campeonato 2020", 2020));
+		race = raceRepository.save(new Race(null, DateUtils.strToZonedDateTime("01/03/2020"), speedway, championship));
+	}
+
+	@Test
+	@DisplayName("Teste migrações aplicadas")
+	void migrationsAppliedTest() {
+		assertEquals(3, flyway.info().applied().length);
+		assertEquals("3", flyway.info().current().getVersion().getVersion());
+	}
+
+	@Test
+	@DisplayName("Teste resultado repetido recusado pelo serviço")
+	void duplicatedResultServiceTest() {
+		pilotRaceService.insert(new PilotRace(null, 1, pilot, race));
+		var ex = assertThrows(IntegrityViolation.class,
+				() -> pilotRaceService.insert(new PilotRace(null, 2, pilot, race)));
+		assertEquals("Piloto %s já possui resultado na corrida %s!".formatted(pilot.getId(), race.getId()),
+				ex.getMessage());
+	}
+
+	@Test
+	@DisplayName("Teste resultado repetido recusado pelo índice único")
+	void duplicatedResultIndexTest() {
+		pilotRaceRepository.saveAndFlush(new PilotRace(null, 1, pilot, race));
+		assertThrows(DataIntegrityViolationException.class,
+				() -> pilotRaceRepository.saveAndFlush(new PilotRace(null, 2, pilot, race)));
+	}
+
+}
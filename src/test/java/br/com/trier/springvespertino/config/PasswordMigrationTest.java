@@ -0,0 +1,40 @@
+package br.com.trier.springvespertino.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.jdbc.Sql;
+
+import br.com.trier.springvespertino.BaseCommitTest;
+import br.com.trier.springvespertino.models.User;
+import br.com.trier.springvespertino.repositories.UserRepository;
+
+public class PasswordMigrationTest extends BaseCommitTest {
+
+	// Injetado sem configurar a propriedade: a migração vem ligada por padrão
+	@Autowired
+	PasswordMigration migration;
+
+	@Autowired
+	UserRepository repository;
+
+	@Autowired
+	PasswordEncoder encoder;
+
+	@Test
+	@DisplayName("Teste senhas em texto puro migradas para BCrypt uma única vez")
+	@Sql({"classpath:/resources/sqls/usuario.sql"})
+	void migrateTest() {
+		migration.run(null);
+		User user = repository.findById(3).orElseThrow();
+		assertTrue(encoder.matches("senha1", user.getPassword()));
+		String hash = user.getPassword();
+		migration.run(null);
+		assertEquals(hash, repository.findById(3).orElseThrow().getPassword());
+	}
+
+}
@@ -0,0 +1,110 @@
+package br.com.trier.springvespertino.config.jwt;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import br.com.trier.springvespertino.BaseCommitTest;
+import br.com.trier.springvespertino.config.CacheRegistry;
+import br.com.trier.springvespertino.models.User;
+import br.com.trier.springvespertino.models.dto.UserDTO;
+import br.com.trier.springvespertino.services.UserService;
+import br.com.trier.springvespertino.utils.BoundedCache;
+
+public class JwtUserDetailServiceTest extends BaseCommitTest {
+
+	@Autowired
+	JwtUserDetailService userDetailService;
+
+	@Autowired
+	UserService userService;
+
+	@Autowired
+	CacheRegistry registry;
+
+	private Set<String> authorities(UserDetails details) {
+		return details.getAuthorities().stream().map(GrantedAuthority::getAuthority).collect(Collectors.toSet());
+	}
+
+	private String token(String email, String password) {
+		return rest.postForEntity("/auth/token", new LoginDTO(email, password), String.class).getBody();
+	}
+
+	// PUT /users/{id} é o único endpoint restrito a ROLE_ADMIN
+	private HttpStatusCode updateWithToken(String token, User target) {
+		HttpHeaders headers = new HttpHeaders();
+		headers.setBearerAuth(token);
+		UserDTO dto = new UserDTO(target.getId(), target.getName(), target.getEmail(), "senha", "USER");
+		return rest.exchange("/users/" + target.getId(), HttpMethod.PUT, new HttpEntity<>(dto, headers), UserDTO.class)
+				.getStatusCode();
+	}
+
+	private BoundedCache<?, ?> cache() {
+		return registry.getCaches().get("user-details");
+	}
+
+	@Test
+	@DisplayName("Teste usuário carregado uma vez e depois servido do cache")
+	void cacheHitTest() {
+		userService.insert(new User(null, "Cache", "cache@email", "senha", "USER"));
+		long hits = cache().getHits();
+		UserDetails first = userDetailService.loadUserByUsername("cache@email");
+		UserDetails second = userDetailService.loadUserByUsername("cache@email");
+		assertEquals(hits + 1, cache().getHits());
+		assertEquals(first.getUsername(), second.getUsername());
+		// Cópias: apagar a senha de uma não afeta o cache
+		assertNotNull(userDetailService.loadUserByUsername("cache@email").getPassword());
+	}
+
+	@Test
+	@DisplayName("Teste alteração de permissões é vista na próxima carga")
+	void updateEvictsTest() {
+		User user = userService.insert(new User(null, "Permissao", "permissao@email", "senha", "USER"));
+		assertEquals(Set.of("ROLE_USER"), authorities(userDetailService.loadUserByUsername("permissao@email")));
+		userService.update(new User(user.getId(), "Permissao", "permissao@email", null, "ADMIN,USER"));
+		assertEquals(Set.of("ROLE_ADMIN", "ROLE_USER"), authorities(userDetailService.loadUserByUsername("permissao@email")));
+	}
+
+	@Test
+	@DisplayName("Teste troca de email e exclusão removem o usuário do cache")
+	void deleteEvictsTest() {
+		User user = userService.insert(new User(null, "Exclusao", "exclusao@email", "senha", "USER"));
+		userDetailService.loadUserByUsername("exclusao@email");
+		userService.update(new User(user.getId(), "Exclusao", "novo@email", null, "USER"));
+		assertThrows(UsernameNotFoundException.class, () -> userDetailService.loadUserByUsername("exclusao@email"));
+		userDetailService.loadUserByUsername("novo@email");
+		userService.delete(user.getId());
+		assertThrows(UsernameNotFoundException.class, () -> userDetailService.loadUserByUsername("novo@email"));
+	}
+
+	@Test
+	@DisplayName("Teste token emitido antes do rebaixamento e da exclusão deixa de valer")
+	void bearerRevokedTest() {
+		User admin = userService.insert(new User(null, "Admin", "admin@email", "senha", "ADMIN,USER"));
+		User target = userService.insert(new User(null, "Alvo", "alvo@email", "senha", "USER"));
+		String token = token("admin@email", "senha");
+		assertEquals(HttpStatus.OK, updateWithToken(token, target));
+		userService.update(new User(admin.getId(), "Admin", "admin@email", null, "USER"));
+		assertEquals(HttpStatus.FORBIDDEN, updateWithToken(token, target));
+		userService.update(new User(admin.getId(), "Admin", "admin@email", null, "ADMIN,USER"));
+		assertEquals(HttpStatus.OK, updateWithToken(token, target));
+		userService.delete(admin.getId());
+		assertEquals(HttpStatus.FORBIDDEN, updateWithToken(token, target));
+	}
+
+}
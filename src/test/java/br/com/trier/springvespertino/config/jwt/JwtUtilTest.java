@@ -0,0 +1,68 @@
+package br.com.trier.springvespertino.config.jwt;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Date;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import br.com.trier.springvespertino.config.CacheRegistry;
+import br.com.trier.springvespertino.utils.BoundedCache;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+
+public class JwtUtilTest {
+
+	private final CacheRegistry registry = new CacheRegistry();
+
+	private final JwtUtil jwtUtil = new JwtUtil(registry, 100);
+
+	private BoundedCache<?, ?> cache() {
+		return registry.getCaches().get("jwt-verified-tokens");
+	}
+
+	@Test
+	@DisplayName("Teste token válido é verificado uma vez e depois servido do cache")
+	void cacheHitTest() {
+		String token = jwtUtil.generateToken("email1", List.of("ADMIN", "USER"));
+		TokenClaims claims = jwtUtil.parseToken(token);
+		assertEquals("email1", claims.getUsername());
+		assertEquals(List.of("ADMIN", "USER"), claims.getRoles());
+		assertSame(claims, jwtUtil.parseToken(token));
+		assertEquals(1, cache().getHits());
+		assertEquals(1, cache().size());
+	}
+
+	@Test
+	@DisplayName("Teste token com assinatura inválida é rejeitado e não entra no cache")
+	void badSignatureTest() {
+		String token = Jwts.builder()
+				.setSubject("email1")
+				.setExpiration(new Date(System.currentTimeMillis() + 60_000))
+				.signWith(Keys.hmacShaKeyFor("outrachavesecretacomtamanhosuficiente!!".getBytes()), SignatureAlgorithm.HS256)
+				.compact();
+		assertThrows(SignatureException.class, () -> jwtUtil.parseToken(token));
+		assertEquals(0, cache().size());
+	}
+
+	@Test
+	@DisplayName("Teste token expirado é rejeitado")
+	void expiredTest() {
+		String token = Jwts.builder()
+				.setSubject("email1")
+				.setExpiration(new Date(System.currentTimeMillis() - 1000))
+				.signWith(Keys.hmacShaKeyFor(io.jsonwebtoken.io.Decoders.BASE64.decode(JwtUtil.SECRET)),
+						SignatureAlgorithm.HS256)
+				.compact();
+		assertThrows(ExpiredJwtException.class, () -> jwtUtil.parseToken(token));
+		assertEquals(0, cache().size());
+	}
+
+}
@@ -0,0 +1,49 @@
+package br.com.trier.springvespertino.config.sql;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class SqlContextTest {
+
+	@AfterEach
+	void tearDown() {
+		SqlContext.end();
+		TransactionSynchronizationManager.setCurrentTransactionName(null);
+	}
+
+	@Test
+	@DisplayName("Teste contadores só somam dentro de uma requisição")
+	void countingTest() {
+		SqlContext context = SqlContext.current();
+		context.record(5_000_000);
+		assertEquals(0, context.getStatements());
+		SqlContext.begin();
+		context.record(2_000_000);
+		context.record(3_000_000);
+		assertEquals(2, context.getStatements());
+		assertEquals(5, context.getMillis());
+		SqlContext.end();
+		assertEquals(0, context.getStatements());
+		context.record(1_000_000);
+		assertEquals(0, context.getStatements());
+	}
+
+	@Test
+	@DisplayName("Teste atribuição ao repositório e ao método da transação")
+	void repositoryMethodTest() {
+		SqlContext context = SqlContext.current();
+		assertEquals("?", context.getRepositoryMethod());
+		TransactionSynchronizationManager
+				.setCurrentTransactionName("br.com.trier.springvespertino.services.impl.PilotRaceServiceImpl.insertAll");
+		assertEquals("PilotRaceServiceImpl.insertAll", context.getRepositoryMethod());
+		context.enterRepository("PilotRaceRepository.saveAll");
+		assertEquals("PilotRaceRepository.saveAll", context.getRepositoryMethod());
+		context.exitRepository();
+		assertEquals("PilotRaceServiceImpl.insertAll", context.getRepositoryMethod());
+	}
+
+}
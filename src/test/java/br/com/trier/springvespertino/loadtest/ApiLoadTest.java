@@ -0,0 +1,71 @@
+package br.com.trier.springvespertino.loadtest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import br.com.trier.springvespertino.SpringVespertinoApplication;
+
+/**
+ * Teste de carga, desligado por padrão:
+ * mvn test -Dtest=ApiLoadTest -Dloadtest=true -Dloadtest.scale=1 -Dloadtest.threads=8 -Dloadtest.seconds=30
+ * Para usar um PostgreSQL local (banco descartável: o perfil de teste recria o schema), informe
+ * -Dloadtest.datasource.url, -Dloadtest.datasource.driver, -Dloadtest.datasource.username e -Dloadtest.datasource.password.
+ */
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+@ActiveProfiles("test")
+@SpringBootTest(classes = SpringVespertinoApplication.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestPropertySource(properties = {
+		"spring.datasource.url=${loadtest.datasource.url:jdbc:h2:mem:loadtest;DB_CLOSE_ON_EXIT=FALSE}",
+		"spring.datasource.driver-class-name=${loadtest.datasource.driver:org.h2.Driver}",
+		"spring.datasource.username=${loadtest.datasource.username:sa}",
+		"spring.datasource.password=${loadtest.datasource.password:}",
+		"spring.jpa.show-sql=false",
+		"reference-cache.size=1000" })
+public class ApiLoadTest {
+
+	@LocalServerPort
+	int port;
+
+	@Autowired
+	JdbcTemplate jdbc;
+
+	@Autowired
+	PasswordEncoder encoder;
+
+	@Test
+	@DisplayName("Carga com massa sintética")
+	void loadTest() throws Exception {
+		SyntheticDataset dataset = new SyntheticDataset(Long.getLong("loadtest.seed", 42),
+				Double.parseDouble(System.getProperty("loadtest.scale", "1")));
+		long start = System.nanoTime();
+		dataset.generate(jdbc, encoder);
+		System.out.printf("Massa gerada em %.1fs: %d temporadas, %d pilotos, %d corridas, %d resultados%n",
+				(System.nanoTime() - start) / 1e9, dataset.getSeasons(), dataset.getPilots(), dataset.getRaces(),
+				dataset.getResults());
+		assertEquals(dataset.getResults(), jdbc.queryForObject("select count(*) from piloto_corrida", Long.class));
+
+		LoadDriver.Report report = LoadDriver.realisticMix("http://localhost:" + port, dataset)
+				.run(Integer.getInteger("loadtest.threads", 8), Duration.ofSeconds(Long.getLong("loadtest.seconds", 30)),
+						dataset.getSeed());
+		System.out.println(report);
+		Files.writeString(Path.of("target", "loadtest-report.txt"), report.toString());
+		assertTrue(report.getTotal() > 0);
+		assertEquals(0, report.getErrors());
+	}
+
+}
@@ -0,0 +1,180 @@
+package br.com.trier.springvespertino.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+/**
+ * Dispara uma mistura ponderada de chamadas contra a API durante um tempo fixo e
+ * resume vazão e percentis de latência por tipo de chamada.
+ */
+public class LoadDriver {
+
+	private final String baseUrl;
+	private final List<Call> mix = new ArrayList<>();
+	private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build();
+	private int totalWeight;
+
+	public LoadDriver(String baseUrl) {
+		this.baseUrl = baseUrl;
+	}
+
+	public static LoadDriver realisticMix(String baseUrl, SyntheticDataset dataset) {
+		String login = "{\"email\":\"%s\",\"password\":\"%s\"}".formatted(SyntheticDataset.USER_EMAIL,
+				SyntheticDataset.USER_PASSWORD);
+		return new LoadDriver(baseUrl)
+				.add("GET /racers", 15, r -> "/racers?limit=100&after=" + r.nextInt(dataset.getRaces()))
+				.add("GET /racers/{id}", 15, r -> "/racers/" + (1 + r.nextInt(dataset.getRaces())))
+				.add("GET /pilot-race", 15, r -> "/pilot-race?limit=100&after=" + r.nextLong(dataset.getResults()))
+				.add("GET /pilot-race/race/{id}", 25, r -> "/pilot-race/race/" + (1 + r.nextInt(dataset.getRaces())))
+				.add("GET /reports/races-by-country-year", 25, r -> "/reports/races-by-country-year/%s/%s"
+						.formatted(1 + r.nextInt(dataset.getCountries()), dataset.yearOf(1 + r.nextInt(dataset.getSeasons()))))
+				.add("POST /auth/token", 5, r -> HttpRequest.newBuilder(URI.create(baseUrl + "/auth/token"))
+						.header("Content-Type", "application/json")
+						.POST(HttpRequest.BodyPublishers.ofString(login)));
+	}
+
+	public LoadDriver add(String name, int weight, Function<SplittableRandom, Object> request) {
+		mix.add(new Call(name, weight, request));
+		totalWeight += weight;
+		return this;
+	}
+
+	public Report run(int threads, Duration duration, long seed) throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		long deadline = System.nanoTime() + duration.toNanos();
+		long start = System.nanoTime();
+		List<Future<Map<String, Samples>>> futures = new ArrayList<>();
+		for (int t = 0; t < threads; t++) {
+			SplittableRandom random = new SplittableRandom(seed + t);
+			futures.add(executor.submit(() -> work(random, deadline)));
+		}
+		Map<String, Samples> merged = new TreeMap<>();
+		for (Future<Map<String, Samples>> future : futures) {
+			future.get().forEach((name, samples) -> merged.computeIfAbsent(name, n -> new Samples()).addAll(samples));
+		}
+		executor.shutdown();
+		return new Report(merged, System.nanoTime() - start, threads);
+	}
+
+	private Map<String, Samples> work(SplittableRandom random, long deadline) throws Exception {
+		Map<String, Samples> samples = new TreeMap<>();
+		while (System.nanoTime() < deadline) {
+			Call call = pick(random);
+			HttpRequest request = call.build(baseUrl, random);
+			long begin = System.nanoTime();
+			HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+			long elapsed = System.nanoTime() - begin;
+			samples.computeIfAbsent(call.name(), n -> new Samples()).add(elapsed, response.statusCode() >= 500);
+		}
+		return samples;
+	}
+
+	private Call pick(SplittableRandom random) {
+		int n = random.nextInt(totalWeight);
+		for (Call call : mix) {
+			n -= call.weight();
+			if (n < 0) {
+				return call;
+			}
+		}
+		return mix.get(mix.size() - 1);
+	}
+
+	private record Call(String name, int weight, Function<SplittableRandom, Object> request) {
+
+		HttpRequest build(String baseUrl, SplittableRandom random) {
+			Object value = request.apply(random);
+			HttpRequest.Builder builder = value instanceof HttpRequest.Builder b ? b
+					: HttpRequest.newBuilder(URI.create(baseUrl + value)).GET();
+			return builder.timeout(Duration.ofSeconds(30)).build();
+		}
+
+	}
+
+	private static class Samples {
+
+		private long[] nanos = new long[1024];
+		private int size;
+		private int errors;
+
+		void add(long elapsed, boolean error) {
+			if (size == nanos.length) {
+				nanos = Arrays.copyOf(nanos, size * 2);
+			}
+			nanos[size++] = elapsed;
+			if (error) {
+				errors++;
+			}
+		}
+
+		void addAll(Samples other) {
+			for (int i = 0; i < other.size; i++) {
+				add(other.nanos[i], false);
+			}
+			errors += other.errors;
+		}
+
+		double percentileMillis(long[] sorted, double percentile) {
+			int index = (int) Math.ceil(percentile * sorted.length) - 1;
+			return sorted[Math.max(0, index)] / 1_000_000.0;
+		}
+
+	}
+
+	public static class Report {
+
+		private final Map<String, Samples> samples;
+		private final long elapsedNanos;
+		private final int threads;
+
+		Report(Map<String, Samples> samples, long elapsedNanos, int threads) {
+			this.samples = samples;
+			this.elapsedNanos = elapsedNanos;
+			this.threads = threads;
+		}
+
+		public long getTotal() {
+			return samples.values().stream().mapToLong(s -> s.size).sum();
+		}
+
+		public long getErrors() {
+			return samples.values().stream().mapToLong(s -> s.errors).sum();
+		}
+
+		public double getThroughput() {
+			return getTotal() / (elapsedNanos / 1_000_000_000.0);
+		}
+
+		@Override
+		public String toString() {
+			StringBuilder out = new StringBuilder();
+			out.append("%d threads, %.1fs, %d requisições, %d erros 5xx, %.1f req/s%n".formatted(threads,
+					elapsedNanos / 1_000_000_000.0, getTotal(), getErrors(), getThroughput()));
+			out.append("%-38s %8s %8s %9s %9s %9s %9s%n".formatted("chamada", "total", "erros", "p50 ms", "p95 ms",
+					"p99 ms", "max ms"));
+			samples.forEach((name, s) -> {
+				long[] sorted = Arrays.copyOf(s.nanos, s.size);
+				Arrays.sort(sorted);
+				out.append("%-38s %8d %8d %9.2f %9.2f %9.2f %9.2f%n".formatted(name, s.size, s.errors,
+						s.percentileMillis(sorted, 0.50), s.percentileMillis(sorted, 0.95),
+						s.percentileMillis(sorted, 0.99), s.percentileMillis(sorted, 1.0)));
+			});
+			return out.toString();
+		}
+
+	}
+
+}
@@ -0,0 +1,145 @@
+package br.com.trier.springvespertino.loadtest;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import lombok.Getter;
+
+/**
+ * Gera uma massa de dados determinística (mesma semente e escala produzem os mesmos registros)
+ * inserida direto por JDBC em lote. Escala 1 equivale a 50 temporadas, 500 pilotos e
+ * 20 mil resultados; os resultados crescem linearmente com a escala.
+ */
+@Getter
+public class SyntheticDataset {
+
+	public static final String USER_EMAIL = "loadtest@trier.com.br";
+	public static final String USER_PASSWORD = "loadtest";
+
+	private static final int BATCH = 1000;
+	private static final int FIRST_YEAR = 1990;
+	private static final int YEARS = 36;
+	// allocationSize do piloto_corrida_seq
+	private static final int PILOT_RACE_ALLOCATION = 50;
+
+	private final long seed;
+	private final int countries = 30;
+	private final int teams = 20;
+	private final int speedways = 60;
+	private final int racesPerSeason = 20;
+	private final int gridSize = 20;
+	private final int pilots;
+	private final int seasons;
+
+	public SyntheticDataset(long seed, double scale) {
+		this.seed = seed;
+		this.pilots = Math.max(gridSize, (int) Math.round(500 * scale));
+		this.seasons = Math.max(1, (int) Math.round(50 * scale));
+	}
+
+	public int getRaces() {
+		return seasons * racesPerSeason;
+	}
+
+	public long getResults() {
+		return (long) getRaces() * gridSize;
+	}
+
+	public int yearOf(int season) {
+		return FIRST_YEAR + (season - 1) % YEARS;
+	}
+
+	public void generate(JdbcTemplate jdbc, PasswordEncoder encoder) {
+		SplittableRandom random = new SplittableRandom(seed);
+		for (String table : List.of("piloto_corrida", "corrida", "piloto", "pista", "campeonato", "equipe", "pais")) {
+			jdbc.update("delete from " + table);
+		}
+		jdbc.update("delete from usuario where email_usuario = ?", USER_EMAIL);
+
+		insert(jdbc, "insert into pais(id, name) values (?, ?)", countries, i -> new Object[] { i, "Pais " + i });
+		insert(jdbc, "insert into equipe(id_quipe, nome_equipe) values (?, ?)", teams, i -> new Object[] { i, "Equipe " + i });
+		insert(jdbc, "insert into piloto(id_piloto, nome_piloto, country_id, team_id_quipe) values (?, ?, ?, ?)", pilots,
+				i -> new Object[] { i, "Piloto " + i, 1 + random.nextInt(countries), 1 + random.nextInt(teams) });
+		insert(jdbc, "insert into pista(id_pista, nome_pista, tamanho_pista, country_id) values (?, ?, ?, ?)", speedways,
+				i -> new Object[] { i, "Pista " + i, 3000 + random.nextInt(4000), 1 + (i - 1) % countries });
+		insert(jdbc, "insert into campeonato(codigo_campeonato, descricao, ano) values (?, ?, ?)", seasons,
+				i -> new Object[] { i, "Campeonato %s #%s".formatted(yearOf(i), i), yearOf(i) });
+		insert(jdbc, "insert into corrida(id_corrida, data_corrida, speedway_id_pista, championship_codigo_campeonato) values (?, ?, ?, ?)",
+				getRaces(), i -> {
+					int season = 1 + (i - 1) / racesPerSeason;
+					LocalDate date = LocalDate.of(yearOf(season), 3, 1).plusWeeks((i - 1) % racesPerSeason);
+					return new Object[] { i, OffsetDateTime.from(date.atStartOfDay(ZoneId.systemDefault())),
+							1 + random.nextInt(speedways), season };
+				});
+
+		int[] grid = new int[pilots];
+		List<Object[]> rows = new ArrayList<>(BATCH);
+		int id = 0;
+		for (int race = 1; race <= getRaces(); race++) {
+			for (int i = 0; i < pilots; i++) {
+				grid[i] = i + 1;
+			}
+			// Fisher-Yates parcial: os primeiros gridSize pilotos são o grid da corrida
+			for (int placement = 1; placement <= gridSize; placement++) {
+				int j = placement - 1 + random.nextInt(pilots - placement + 1);
+				int pilot = grid[j];
+				grid[j] = grid[placement - 1];
+				grid[placement - 1] = pilot;
+				rows.add(new Object[] { ++id, placement, pilot, race });
+				if (rows.size() == BATCH) {
+					insertResults(jdbc, rows);
+				}
+			}
+		}
+		insertResults(jdbc, rows);
+
+		jdbc.update("insert into usuario(nome_usuario, email_usuario, senha_usuario, permissoes_usuario) values (?, ?, ?, ?)",
+				"Load test", USER_EMAIL, encoder.encode(USER_PASSWORD), "ADMIN,USER");
+
+		restart(jdbc, "pais", "id", countries);
+		restart(jdbc, "equipe", "id_quipe", teams);
+		restart(jdbc, "piloto", "id_piloto", pilots);
+		restart(jdbc, "pista", "id_pista", speedways);
+		restart(jdbc, "campeonato", "codigo_campeonato", seasons);
+		restart(jdbc, "corrida", "id_corrida", getRaces());
+		// Otimizador pooled: o valor lido da sequence é o topo do bloco
+		jdbc.execute("alter sequence piloto_corrida_seq restart with " + (id + PILOT_RACE_ALLOCATION));
+	}
+
+	private void insert(JdbcTemplate jdbc, String sql, int count, RowFactory factory) {
+		List<Object[]> rows = new ArrayList<>(Math.min(count, BATCH));
+		for (int i = 1; i <= count; i++) {
+			rows.add(factory.row(i));
+			if (rows.size() == BATCH) {
+				jdbc.batchUpdate(sql, rows);
+				rows.clear();
+			}
+		}
+		if (!rows.isEmpty()) {
+			jdbc.batchUpdate(sql, rows);
+		}
+	}
+
+	private void insertResults(JdbcTemplate jdbc, List<Object[]> rows) {
+		if (!rows.isEmpty()) {
+			jdbc.batchUpdate("insert into piloto_corrida(id, colocacao, pilot_id_piloto, race_id_corrida) values (?, ?, ?, ?)", rows);
+			rows.clear();
+		}
+	}
+
+	private void restart(JdbcTemplate jdbc, String table, String column, int max) {
+		jdbc.execute("alter table %s alter column %s restart with %s".formatted(table, column, max + 1));
+	}
+
+	private interface RowFactory {
+		Object[] row(int id);
+	}
+
+}
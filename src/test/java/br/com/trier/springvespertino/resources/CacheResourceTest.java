@@ -0,0 +1,68 @@
+package br.com.trier.springvespertino.resources;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import br.com.trier.springvespertino.BaseCommitTest;
+import br.com.trier.springvespertino.config.CacheRegistry;
+import br.com.trier.springvespertino.services.CountryService;
+import br.com.trier.springvespertino.utils.BoundedCache;
+
+// Mesmas propriedades de ReferenceCacheServiceTest: os dois dividem o contexto com cache ligado, em banco próprio
+// para que o create-drop desse contexto não apague o banco compartilhado
+@TestPropertySource(properties = { "spring.datasource.url=jdbc:h2:mem:referencecache;DB_CLOSE_ON_EXIT=FALSE",
+		"reference-cache.size=100" })
+public class CacheResourceTest extends BaseCommitTest {
+
+	@Autowired
+	CacheRegistry registry;
+
+	@Autowired
+	CountryService countryService;
+
+	private JsonNode find(JsonNode caches, String name) {
+		for (JsonNode cache : caches) {
+			if (cache.get("name").asText().equals(name)) {
+				return cache;
+			}
+		}
+		return null;
+	}
+
+	@Test
+	@DisplayName("Teste estatísticas dos caches registrados")
+	@Sql({"classpath:/resources/sqls/temporada.sql"})
+	void listAllTest() {
+		// Os contadores acumulam entre as classes do contexto, então só o incremento deste teste é verificado
+		BoundedCache<?, ?> countriesCache = registry.getCaches().get("countries");
+		long hits = countriesCache.getHits();
+		long misses = countriesCache.getMisses();
+		countryService.findById(9001);
+		countryService.findById(9001);
+		ResponseEntity<JsonNode> response = rest.getForEntity("/caches", JsonNode.class);
+		assertEquals(HttpStatus.OK, response.getStatusCode());
+		List<String> names = new ArrayList<>();
+		response.getBody().forEach(cache -> names.add(cache.get("name").asText()));
+		assertEquals(names.stream().sorted().toList(), names);
+		assertTrue(names.containsAll(List.of("countries", "jwt-verified-tokens", "user-details")));
+		JsonNode countries = find(response.getBody(), "countries");
+		assertEquals(1, countries.get("size").asInt());
+		assertEquals(hits + 1, countries.get("hits").asLong());
+		assertEquals(misses + 1, countries.get("misses").asLong());
+		assertEquals((hits + 1.0) / (hits + misses + 2), countries.get("hitRatio").asDouble(), 1e-9);
+	}
+
+}
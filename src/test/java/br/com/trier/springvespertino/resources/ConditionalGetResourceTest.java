@@ -0,0 +1,91 @@
+package br.com.trier.springvespertino.resources;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.jdbc.Sql;
+
+import br.com.trier.springvespertino.BaseCommitTest;
+import br.com.trier.springvespertino.models.Championship;
+import br.com.trier.springvespertino.models.Race;
+import br.com.trier.springvespertino.models.Speedway;
+import br.com.trier.springvespertino.repositories.SpeedwayRepository;
+import br.com.trier.springvespertino.services.ChampionshipService;
+import br.com.trier.springvespertino.services.RaceService;
+import br.com.trier.springvespertino.utils.DateUtils;
+import jakarta.persistence.EntityManagerFactory;
+
+public class ConditionalGetResourceTest extends BaseCommitTest {
+
+	@Autowired
+	EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	ChampionshipService championshipService;
+
+	@Autowired
+	RaceService raceService;
+
+	@Autowired
+	SpeedwayRepository speedwayRepository;
+
+	private ResponseEntity<String> get(String url, String etag) {
+		HttpHeaders headers = new HttpHeaders();
+		if (etag != null) {
+			headers.setIfNoneMatch(etag);
+		}
+		return rest.exchange(url, HttpMethod.GET, new HttpEntity<>(headers), String.class);
+	}
+
+	@Test
+	@DisplayName("Teste ETag de campeonatos muda após escrita e 304 não consulta o banco")
+	void championshipsTest() {
+		Championship championship = championshipService.insert(new Championship(null, "Campeonato 2020", 2020));
+		ResponseEntity<String> response = get("/championships", null);
+		assertEquals(HttpStatus.OK, response.getStatusCode());
+		String etag = response.getHeaders().getETag();
+		assertNotNull(etag);
+		assertEquals("no-cache", response.getHeaders().getCacheControl());
+
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+		response = get("/championships", etag);
+		assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+		assertEquals(etag, response.getHeaders().getETag());
+		assertEquals(0, statistics.getPrepareStatementCount());
+
+		championshipService.update(new Championship(championship.getId(), "Campeonato 2020 - Temporada", 2020));
+		response = get("/championships", etag);
+		assertEquals(HttpStatus.OK, response.getStatusCode());
+		assertNotEquals(etag, response.getHeaders().getETag());
+	}
+
+	@Test
+	@DisplayName("Teste ETag de corridas por campeonato e Cache-Control de países")
+	@Sql({"classpath:/resources/sqls/temporada.sql"})
+	void racesByChampionshipTest() {
+		Speedway speedway = speedwayRepository.findById(9001).orElseThrow();
+		Championship championship = championshipService.findById(9001);
+		String url = "/racers/championship/" + championship.getId();
+		String etag = get(url, null).getHeaders().getETag();
+		assertEquals(HttpStatus.NOT_MODIFIED, get(url, etag).getStatusCode());
+		raceService.insert(new Race(null, DateUtils.strToZonedDateTime("01/06/2020"), speedway, championship));
+		assertEquals(HttpStatus.OK, get(url, etag).getStatusCode());
+
+		ResponseEntity<String> countries = get("/countries", null);
+		assertEquals("max-age=60, must-revalidate", countries.getHeaders().getCacheControl());
+		assertEquals(HttpStatus.NOT_MODIFIED, get("/countries", countries.getHeaders().getETag()).getStatusCode());
+	}
+
+}
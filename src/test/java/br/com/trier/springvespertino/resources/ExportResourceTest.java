@@ -0,0 +1,83 @@
+package br.com.trier.springvespertino.resources;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.jdbc.Sql;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.trier.springvespertino.BaseCommitTest;
+import br.com.trier.springvespertino.utils.NdjsonUtils;
+
+// exportacao.sql: 30 corridas (9101..9130), cada uma com dois resultados (9101..9130 e 9201..9230)
+public class ExportResourceTest extends BaseCommitTest {
+
+	private static final int RACES = 30;
+
+	@Autowired
+	ObjectMapper mapper;
+
+	Set<Integer> raceIds = ids(9101);
+	Set<Integer> pilotRaceIds = union(ids(9101), ids(9201));
+
+	private static Set<Integer> ids(int first) {
+		return IntStream.range(first, first + RACES).boxed().collect(Collectors.toSet());
+	}
+
+	private static Set<Integer> union(Set<Integer> a, Set<Integer> b) {
+		Set<Integer> all = new HashSet<>(a);
+		all.addAll(b);
+		return all;
+	}
+
+	private List<JsonNode> export(String url) throws Exception {
+		ResponseEntity<String> response = rest.getForEntity(url, String.class);
+		assertEquals(HttpStatus.OK, response.getStatusCode());
+		assertTrue(NdjsonUtils.NDJSON.isCompatibleWith(response.getHeaders().getContentType()));
+		assertTrue(response.getBody().endsWith("\n"));
+		List<JsonNode> lines = new ArrayList<>();
+		for (String line : response.getBody().split("\n")) {
+			lines.add(mapper.readTree(line));
+		}
+		return lines;
+	}
+
+	@Test
+	@DisplayName("Teste exportação NDJSON de corridas")
+	@Sql({"classpath:/resources/sqls/exportacao.sql"})
+	void exportRacesTest() throws Exception {
+		List<JsonNode> lines = export("/racers/export");
+		assertEquals(RACES, lines.size());
+		Set<Integer> ids = new HashSet<>();
+		lines.forEach(line -> ids.add(line.get("id").asInt()));
+		assertEquals(raceIds, ids);
+		assertEquals("Interlagos", lines.get(0).get("speedwayName").asText());
+		assertEquals("01/03/2020", lines.get(0).get("date").asText());
+	}
+
+	@Test
+	@DisplayName("Teste exportação NDJSON de resultados")
+	@Sql({"classpath:/resources/sqls/exportacao.sql"})
+	void exportPilotRacesTest() throws Exception {
+		List<JsonNode> lines = export("/pilot-race/export");
+		assertEquals(RACES * 2, lines.size());
+		Set<Integer> ids = new HashSet<>();
+		lines.forEach(line -> ids.add(line.get("id").asInt()));
+		assertEquals(pilotRaceIds, ids);
+	}
+
+}
@@ -0,0 +1,94 @@
+package br.com.trier.springvespertino.resources;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.jdbc.Sql;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import br.com.trier.springvespertino.BaseCommitTest;
+import br.com.trier.springvespertino.utils.KeysetUtils;
+
+// paginacao.sql: 510 países e três linhas de cada um dos demais recursos
+public class KeysetPaginationResourceTest extends BaseCommitTest {
+
+	private static final int ROWS = 3;
+
+	private static final int COUNTRIES = 510;
+
+	private List<Integer> ids(ResponseEntity<JsonNode> response) {
+		List<Integer> ids = new ArrayList<>();
+		response.getBody().forEach(item -> ids.add(item.get("id").asInt()));
+		return ids;
+	}
+
+	private String cursor(ResponseEntity<JsonNode> response) {
+		return response.getHeaders().getFirst(KeysetUtils.NEXT_CURSOR_HEADER);
+	}
+
+	private void assertAscending(List<Integer> ids) {
+		for (int i = 1; i < ids.size(); i++) {
+			assertTrue(ids.get(i - 1) < ids.get(i), ids.toString());
+		}
+	}
+
+	@Test
+	@DisplayName("Teste limite padrão, limite máximo e cursor entre páginas")
+	@Sql({"classpath:/resources/sqls/paginacao.sql"})
+	void limitsAndCursorTest() {
+		ResponseEntity<JsonNode> first = rest.getForEntity("/countries", JsonNode.class);
+		List<Integer> firstIds = ids(first);
+		assertEquals(KeysetUtils.DEFAULT_LIMIT, firstIds.size());
+		assertAscending(firstIds);
+		assertEquals(String.valueOf(firstIds.get(firstIds.size() - 1)), cursor(first));
+
+		ResponseEntity<JsonNode> second = rest.getForEntity("/countries?after=" + cursor(first), JsonNode.class);
+		List<Integer> secondIds = ids(second);
+		assertEquals(KeysetUtils.DEFAULT_LIMIT, secondIds.size());
+		assertTrue(secondIds.get(0) > firstIds.get(firstIds.size() - 1));
+
+		ResponseEntity<JsonNode> capped = rest.getForEntity("/countries?limit=1000", JsonNode.class);
+		assertEquals(KeysetUtils.MAX_LIMIT, ids(capped).size());
+		assertEquals(String.valueOf(ids(capped).get(KeysetUtils.MAX_LIMIT - 1)), cursor(capped));
+
+		ResponseEntity<JsonNode> last = rest.getForEntity("/countries?limit=500&after=" + cursor(capped), JsonNode.class);
+		assertEquals(COUNTRIES - KeysetUtils.MAX_LIMIT, ids(last).size());
+		assertNull(cursor(last));
+
+		ResponseEntity<JsonNode> invalid = rest.getForEntity("/countries?limit=0", JsonNode.class);
+		assertEquals(KeysetUtils.DEFAULT_LIMIT, ids(invalid).size());
+	}
+
+	@Test
+	@DisplayName("Teste paginação por cursor em todos os recursos")
+	@Sql({"classpath:/resources/sqls/paginacao.sql"})
+	void allResourcesTest() {
+		for (String url : List.of("/countries", "/teams", "/pilot", "/speedway", "/championships", "/racers", "/pilot-race",
+				"/users")) {
+			int total = url.equals("/countries") ? COUNTRIES : ROWS;
+			List<Integer> seen = new ArrayList<>();
+			String after = null;
+			do {
+				ResponseEntity<JsonNode> page = rest.getForEntity(url + "?limit=2" + (after != null ? "&after=" + after : ""),
+						JsonNode.class);
+				assertEquals(HttpStatus.OK, page.getStatusCode(), url);
+				List<Integer> ids = ids(page);
+				assertTrue(ids.size() <= 2, url);
+				seen.addAll(ids);
+				after = cursor(page);
+			} while (after != null && seen.size() < total);
+			assertEquals(total, seen.size(), url);
+			assertAscending(seen);
+		}
+	}
+
+}
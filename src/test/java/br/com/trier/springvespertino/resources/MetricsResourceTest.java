@@ -0,0 +1,44 @@
+package br.com.trier.springvespertino.resources;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import br.com.trier.springvespertino.SpringVespertinoApplication;
+
+@ActiveProfiles("test")
+@AutoConfigureObservability
+@SpringBootTest(classes = SpringVespertinoApplication.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+// @AutoConfigureObservability cria outro contexto; o banco próprio evita que o create-drop dele afete os demais
+@TestPropertySource(properties = "spring.datasource.url=jdbc:h2:mem:metrics;DB_CLOSE_ON_EXIT=FALSE")
+public class MetricsResourceTest {
+
+	@Autowired
+	protected TestRestTemplate rest;
+
+	@Test
+	@DisplayName("Teste métricas no formato Prometheus")
+	void prometheusTest() {
+		assertEquals(HttpStatus.NOT_FOUND, rest.getForEntity("/speedway/999", String.class).getStatusCode());
+		ResponseEntity<String> response = rest.getForEntity("/actuator/prometheus", String.class);
+		assertEquals(HttpStatus.OK, response.getStatusCode());
+		String body = response.getBody();
+		assertTrue(body.contains("http_server_requests_seconds_bucket"));
+		assertTrue(body.contains("uri=\"/speedway/{id}\""));
+		assertTrue(body.contains("service_method_seconds_count{class=\"SpeedwayServiceImpl\",exception=\"ObjectNotFound\",method=\"findById\""));
+		assertTrue(body.contains("api_exceptions_total{exception=\"ObjectNotFound\",status=\"404\""));
+		assertTrue(body.contains("hibernate_statements_total"));
+		assertTrue(body.contains("hibernate_query_executions_max_seconds"));
+	}
+
+}
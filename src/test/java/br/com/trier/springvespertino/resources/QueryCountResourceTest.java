@@ -0,0 +1,117 @@
+package br.com.trier.springvespertino.resources;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.jdbc.Sql;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import br.com.trier.springvespertino.BaseCommitTest;
+import br.com.trier.springvespertino.models.Pilot;
+import br.com.trier.springvespertino.models.Race;
+import br.com.trier.springvespertino.repositories.PilotRepository;
+import br.com.trier.springvespertino.repositories.RaceRepository;
+import jakarta.persistence.EntityManagerFactory;
+
+// Um país/equipe/pista por linha em contagem_consultas.sql, para que um N+1 apareça na contagem
+public class QueryCountResourceTest extends BaseCommitTest {
+
+	@Autowired
+	EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	PilotRepository pilotRepository;
+
+	@Autowired
+	RaceRepository raceRepository;
+
+	Pilot pilot;
+	Race race;
+	List<Integer> raceIds = IntStream.rangeClosed(9101, 9105).boxed().toList();
+
+	@BeforeEach
+	void setUp() {
+		pilot = pilotRepository.findById(9105).orElseThrow();
+		race = raceRepository.findById(9105).orElseThrow();
+	}
+
+	private Statistics get(String url) {
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+		ResponseEntity<String> response = rest.getForEntity(url, String.class);
+		assertEquals(HttpStatus.OK, response.getStatusCode());
+		return statistics;
+	}
+
+	private void assertQueries(long expected, String url) {
+		assertEquals(expected, get(url).getPrepareStatementCount(), url);
+	}
+
+	private void assertProjection(String url) {
+		Statistics statistics = get(url);
+		assertEquals(1, statistics.getPrepareStatementCount(), url);
+		assertEquals(0, statistics.getEntityLoadCount(), url);
+	}
+
+	private JsonNode assertBatch(String url) {
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+		ResponseEntity<JsonNode> response = rest.getForEntity(url, JsonNode.class);
+		assertEquals(HttpStatus.OK, response.getStatusCode());
+		assertEquals(1, statistics.getPrepareStatementCount(), url);
+		return response.getBody();
+	}
+
+	@Test
+	@DisplayName("Teste quantidade de consultas nas listagens")
+	@Sql({"classpath:/resources/sqls/contagem_consultas.sql"})
+	void listAllQueryCountTest() {
+		assertQueries(1, "/pilot");
+		assertQueries(1, "/speedway");
+		assertProjection("/racers");
+		assertProjection("/pilot-race");
+	}
+
+	@Test
+	@DisplayName("Teste quantidade de consultas nas buscas")
+	@Sql({"classpath:/resources/sqls/contagem_consultas.sql"})
+	void findQueryCountTest() {
+		assertQueries(1, "/pilot/" + pilot.getId());
+		assertQueries(2, "/pilot/team/" + pilot.getTeam().getId());
+		assertProjection("/racers/" + race.getId());
+		assertProjection("/racers/championship/" + race.getChampionship().getId());
+		assertProjection("/pilot-race/race/" + race.getId());
+		assertProjection("/pilot-race/pilot/" + pilot.getId());
+		assertProjection("/pilot-race/pilot-race/" + pilot.getId() + "/" + race.getId());
+	}
+
+	@Test
+	@DisplayName("Teste consultas em lote por ids")
+	@Sql({"classpath:/resources/sqls/contagem_consultas.sql"})
+	void findAllByIdTest() {
+		String ids = "?ids=%s,999999,%s,%s".formatted(raceIds.get(3), raceIds.get(1), raceIds.get(3));
+		JsonNode races = assertBatch("/racers" + ids);
+		assertEquals(2, races.get("items").size());
+		assertEquals(raceIds.get(3), races.get("items").get(0).get("id").asInt());
+		assertEquals(raceIds.get(1), races.get("items").get(1).get("id").asInt());
+		assertEquals(999999, races.get("missing").get(0).asInt());
+		assertEquals(1, assertBatch("/pilot?ids=" + pilot.getId()).get("items").size());
+		assertEquals(1, assertBatch("/speedway?ids=" + race.getSpeedway().getId()).get("items").size());
+		assertEquals(1, assertBatch("/teams?ids=" + pilot.getTeam().getId()).get("items").size());
+		assertEquals(1, assertBatch("/countries?ids=" + pilot.getCountry().getId()).get("items").size());
+		assertEquals(1, assertBatch("/pilot-race?ids=999999").get("missing").size());
+		assertEquals(HttpStatus.BAD_REQUEST, rest.getForEntity("/pilot?ids=", String.class).getStatusCode());
+	}
+
+}
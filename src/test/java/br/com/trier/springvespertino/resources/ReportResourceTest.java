@@ -0,0 +1,49 @@
+package br.com.trier.springvespertino.resources;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.jdbc.Sql;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import br.com.trier.springvespertino.BaseCommitTest;
+
+// relatorio.sql: Brasil (9001) com pistas e corridas nas bordas do ano, Chile (9002) sem pistas
+public class ReportResourceTest extends BaseCommitTest {
+
+	private static final int COUNTRY = 9001;
+
+	private static final int EMPTY = 9002;
+
+	@Test
+	@DisplayName("Teste relatório inclui apenas corridas do ano e do país, maior pista primeiro")
+	@Sql({"classpath:/resources/sqls/relatorio.sql"})
+	void findRaceByCountryAndYearTest() {
+		ResponseEntity<JsonNode> response = rest.getForEntity("/reports/races-by-country-year/%s/2020".formatted(COUNTRY),
+				JsonNode.class);
+		assertEquals(HttpStatus.OK, response.getStatusCode());
+		JsonNode body = response.getBody();
+		assertEquals(2, body.get("raceSize").asInt());
+		assertEquals("Grande", body.get("racers").get(0).get("speedwayName").asText());
+		assertEquals("31/12/2020", body.get("racers").get(0).get("date").asText());
+		assertEquals("01/01/2020", body.get("racers").get(1).get("date").asText());
+	}
+
+	@Test
+	@DisplayName("Teste relatório de ano sem corridas e de país sem pistas")
+	@Sql({"classpath:/resources/sqls/relatorio.sql"})
+	void findRaceByCountryAndYearEmptyTest() {
+		ResponseEntity<JsonNode> response = rest.getForEntity("/reports/races-by-country-year/%s/2018".formatted(COUNTRY),
+				JsonNode.class);
+		assertEquals(HttpStatus.OK, response.getStatusCode());
+		assertEquals(0, response.getBody().get("raceSize").asInt());
+		response = rest.getForEntity("/reports/races-by-country-year/%s/2020".formatted(EMPTY), JsonNode.class);
+		assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+		assertEquals("Nenhuma pista cadastrada no país: Chile", response.getBody().get("error").asText());
+	}
+
+}
@@ -0,0 +1,55 @@
+package br.com.trier.springvespertino.resources;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import br.com.trier.springvespertino.BaseCommitTest;
+import br.com.trier.springvespertino.models.Championship;
+import br.com.trier.springvespertino.services.exceptions.IntegrityViolation;
+import br.com.trier.springvespertino.services.exceptions.ObjectNotFound;
+
+public class ResourceExceptionHandlerTest extends BaseCommitTest {
+
+	private void assertBody(ResponseEntity<JsonNode> response, HttpStatus status, String error, String url) {
+		assertEquals(status, response.getStatusCode());
+		JsonNode body = response.getBody();
+		assertEquals(status.value(), body.get("status").asInt());
+		assertEquals(error, body.get("error").asText());
+		assertEquals(url, body.get("url").asText());
+		assertFalse(body.get("time").isNull());
+		assertEquals(4, body.size());
+	}
+
+	@Test
+	@DisplayName("Teste ObjectNotFound sem stack trace gera o corpo 404")
+	void objectNotFoundTest() {
+		assertBody(rest.getForEntity("/speedway/999", JsonNode.class), HttpStatus.NOT_FOUND, "Pista 999 não existe",
+				"/speedway/999");
+		assertBody(rest.getForEntity("/pilot-race/race/999", JsonNode.class), HttpStatus.NOT_FOUND,
+				"Nenhum PilotoCorrida nesta corrida!", "/pilot-race/race/999");
+	}
+
+	@Test
+	@DisplayName("Teste IntegrityViolation sem stack trace gera o corpo 400")
+	void integrityViolationTest() {
+		assertBody(rest.postForEntity("/championships", new Championship(null, "Campeonato", 1500), JsonNode.class),
+				HttpStatus.BAD_REQUEST, "Ano inválido: 1500", "/championships");
+	}
+
+	@Test
+	@DisplayName("Teste exceções de serviço não guardam stack trace")
+	void stacklessTest() {
+		assertEquals(0, new ObjectNotFound("x").getStackTrace().length);
+		assertEquals(0, new IntegrityViolation("x").getStackTrace().length);
+		assertNull(new ObjectNotFound("x").getCause());
+	}
+
+}
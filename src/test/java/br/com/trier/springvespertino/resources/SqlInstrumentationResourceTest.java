@@ -0,0 +1,61 @@
+package br.com.trier.springvespertino.resources;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+
+import br.com.trier.springvespertino.BaseCommitTest;
+import br.com.trier.springvespertino.models.PilotRace;
+import br.com.trier.springvespertino.repositories.PilotRepository;
+import br.com.trier.springvespertino.repositories.RaceRepository;
+import br.com.trier.springvespertino.services.PilotRaceService;
+
+@ExtendWith(OutputCaptureExtension.class)
+// Limite zero para que toda consulta seja registrada como lenta; o contexto próprio usa outro banco para que o
+// create-drop dele não apague o compartilhado
+@TestPropertySource(properties = { "spring.datasource.url=jdbc:h2:mem:sqlinstrumentation;DB_CLOSE_ON_EXIT=FALSE",
+		"sql.slow-query.threshold-ms=0" })
+public class SqlInstrumentationResourceTest extends BaseCommitTest {
+
+	@Autowired
+	PilotRepository pilotRepository;
+
+	@Autowired
+	RaceRepository raceRepository;
+
+	@Autowired
+	PilotRaceService pilotRaceService;
+
+	@Test
+	@DisplayName("Teste log de consulta lenta e contagem no log de acesso")
+	@Sql({"classpath:/resources/sqls/temporada.sql"})
+	void slowQueryAndAccessLogTest(CapturedOutput output) {
+		String url = "/speedway/9001";
+		assertEquals(HttpStatus.OK, rest.getForEntity(url, String.class).getStatusCode());
+		assertTrue(Pattern.compile("\\d+ ms em SpeedwayRepository\\.findById \\(1 par.metros\\): select .*from pista")
+				.matcher(output.getOut()).find());
+		assertTrue(Pattern.compile("GET " + url + " 200 \\d+ ms sql=1 sql_ms=\\d+").matcher(output.getOut()).find());
+	}
+
+	@Test
+	@DisplayName("Teste flush no commit atribuído ao método transacional")
+	@Sql({"classpath:/resources/sqls/temporada.sql"})
+	void commitFlushTest(CapturedOutput output) {
+		pilotRaceService.insert(new PilotRace(null, 1, pilotRepository.findById(9001).orElseThrow(),
+				raceRepository.findById(9001).orElseThrow()));
+		assertTrue(Pattern.compile("\\d+ ms em PilotRaceServiceImpl\\.insert \\(\\d+ par.metros\\): insert into piloto_corrida")
+				.matcher(output.getOut()).find());
+	}
+
+}
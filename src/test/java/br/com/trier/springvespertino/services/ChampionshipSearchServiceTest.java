@@ -0,0 +1,57 @@
+package br.com.trier.springvespertino.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import br.com.trier.springvespertino.BaseTest;
+import br.com.trier.springvespertino.models.Championship;
+import br.com.trier.springvespertino.repositories.ChampionshipRepository;
+import jakarta.transaction.Transactional;
+
+@Transactional
+public class ChampionshipSearchServiceTest extends BaseTest {
+
+	@Autowired
+	ChampionshipService championshipService;
+
+	@Autowired
+	ChampionshipRepository championshipRepository;
+
+	private List<String> descriptions(String query, Integer limit) {
+		return championshipService.search(query, limit).stream().map(Championship::getDescription).toList();
+	}
+
+	@Test
+	@DisplayName("Teste busca textual com várias palavras e sem acento")
+	void searchTest() {
+		championshipService.insert(new Championship(null, "Fórmula 1 Temporada 2020", 2020));
+		championshipService.insert(new Championship(null, "Fórmula Indy 2020", 2020));
+		championshipService.insert(new Championship(null, "Stock Car Brasil", 2021));
+		assertEquals(List.of("Fórmula Indy 2020", "Fórmula 1 Temporada 2020"), descriptions("formula 2020", null));
+		assertEquals(List.of("Fórmula 1 Temporada 2020", "Fórmula Indy 2020"), descriptions("FORMULA temp", null));
+		assertEquals(List.of("Fórmula Indy 2020"), descriptions("formula", 1));
+		assertTrue(descriptions("kart", null).isEmpty());
+	}
+
+	@Test
+	@DisplayName("Teste busca textual atualizada nas escritas")
+	void searchUpdateTest() {
+		Championship championship = championshipService.insert(new Championship(null, "Copa Truck", 2021));
+		championshipService.update(new Championship(championship.getId(), "Copa Porsche", 2021));
+		assertTrue(descriptions("truck", null).isEmpty());
+		assertEquals(List.of("Copa Porsche"), descriptions("porsche", null));
+		championshipService.delete(championship.getId());
+		assertTrue(descriptions("porsche", null).isEmpty());
+		championshipRepository.save(new Championship(null, "Endurance Brasil", 2021));
+		assertTrue(descriptions("endurance", null).isEmpty());
+		championshipService.rebuildSearchIndex();
+		assertEquals(List.of("Endurance Brasil"), descriptions("endurance", null));
+	}
+
+}
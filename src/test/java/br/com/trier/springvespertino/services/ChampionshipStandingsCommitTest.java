@@ -0,0 +1,104 @@
+package br.com.trier.springvespertino.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import br.com.trier.springvespertino.BaseCommitTest;
+import br.com.trier.springvespertino.models.Championship;
+import br.com.trier.springvespertino.models.Pilot;
+import br.com.trier.springvespertino.models.PilotRace;
+import br.com.trier.springvespertino.models.Race;
+import br.com.trier.springvespertino.repositories.ChampionshipRepository;
+import br.com.trier.springvespertino.repositories.PilotRepository;
+import br.com.trier.springvespertino.repositories.RaceRepository;
+
+// Sem @Transactional na classe: cada escrita confirma ou desfaz a própria transação
+public class ChampionshipStandingsCommitTest extends BaseCommitTest {
+
+	@Autowired
+	ChampionshipStandingsService standingsService;
+
+	@Autowired
+	PilotRaceService pilotRaceService;
+
+	@Autowired
+	TransactionTemplate transactionTemplate;
+
+	@Autowired
+	PilotRepository pilotRepository;
+
+	@Autowired
+	ChampionshipRepository championshipRepository;
+
+	@Autowired
+	RaceRepository raceRepository;
+
+	Championship championship;
+	Race race;
+	Pilot pilot1;
+	Pilot pilot2;
+
+	@BeforeEach
+	void setUp() {
+		championship = championshipRepository.findById(9001).orElseThrow();
+		race = raceRepository.findById(9001).orElseThrow();
+		pilot1 = pilotRepository.findById(9001).orElseThrow();
+		pilot2 = pilotRepository.findById(9002).orElseThrow();
+	}
+
+	@Test
+	@DisplayName("Teste carga feita com escrita pendente não é guardada")
+	@Sql({"classpath:/resources/sqls/temporada.sql"})
+	void loadWithPendingWriteTest() {
+		transactionTemplate.executeWithoutResult(status -> {
+			pilotRaceService.insert(new PilotRace(null, 1, pilot1, race));
+			// A carga enxerga a linha ainda não confirmada
+			assertEquals(25, standingsService.findByChampionship(championship).getPilots().get(0).getPoints());
+			status.setRollbackOnly();
+		});
+		assertEquals(0, standingsService.findByChampionship(championship).getPilots().size());
+		transactionTemplate.executeWithoutResult(status -> pilotRaceService.insert(new PilotRace(null, 2, pilot2, race)));
+		assertEquals(18, standingsService.findByChampionship(championship).getPilots().get(0).getPoints());
+	}
+
+	@Test
+	@DisplayName("Teste insertAll desfeito não altera a classificação")
+	@Sql({"classpath:/resources/sqls/temporada.sql"})
+	void insertAllRollbackTest() {
+		pilotRaceService.insert(new PilotRace(null, 1, pilot1, race));
+		assertEquals(1, standingsService.findByChampionship(championship).getPilots().size());
+		transactionTemplate.executeWithoutResult(status -> {
+			pilotRaceService.insertAll(List.of(new PilotRace(null, 2, pilot2, race)));
+			status.setRollbackOnly();
+		});
+		assertEquals(1, standingsService.findByChampionship(championship).getPilots().size());
+		assertEquals(25, standingsService.findByChampionship(championship).getPilots().get(0).getPoints());
+	}
+
+	@Test
+	@DisplayName("Teste insertAll com falha no flush não altera a classificação")
+	@Sql({"classpath:/resources/sqls/temporada.sql"})
+	void insertAllFlushFailureTest() {
+		pilotRaceService.insert(new PilotRace(null, 1, pilot1, race));
+		assertEquals(1, standingsService.findByChampionship(championship).getPilots().size());
+		// Piloto inexistente: a chave estrangeira só falha no flush do commit, depois do evento publicado
+		Pilot ghost = new Pilot(pilot2.getId() + 1000, "Fantasma", pilot2.getCountry(), pilot2.getTeam());
+		assertThrows(RuntimeException.class,
+				() -> pilotRaceService.insertAll(List.of(new PilotRace(null, 2, pilot2, race), new PilotRace(null, 3, ghost, race))));
+		assertEquals(1, standingsService.findByChampionship(championship).getPilots().size());
+		assertEquals(25, standingsService.findByChampionship(championship).getPilots().get(0).getPoints());
+		pilotRaceService.insertAll(List.of(new PilotRace(null, 2, pilot2, race)));
+		assertEquals(2, standingsService.findByChampionship(championship).getPilots().size());
+		assertEquals(18, standingsService.findByChampionship(championship).getPilots().get(1).getPoints());
+	}
+
+}
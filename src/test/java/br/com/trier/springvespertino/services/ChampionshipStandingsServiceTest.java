@@ -0,0 +1,105 @@
+package br.com.trier.springvespertino.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.jdbc.Sql;
+
+import br.com.trier.springvespertino.BaseCommitTest;
+import br.com.trier.springvespertino.models.Championship;
+import br.com.trier.springvespertino.models.Pilot;
+import br.com.trier.springvespertino.models.PilotRace;
+import br.com.trier.springvespertino.models.Race;
+import br.com.trier.springvespertino.models.Team;
+import br.com.trier.springvespertino.models.dto.StandingsDTO;
+import br.com.trier.springvespertino.repositories.ChampionshipRepository;
+import br.com.trier.springvespertino.repositories.PilotRepository;
+import br.com.trier.springvespertino.repositories.RaceRepository;
+
+public class ChampionshipStandingsServiceTest extends BaseCommitTest {
+
+	@Autowired
+	ChampionshipStandingsService standingsService;
+
+	@Autowired
+	PilotRaceService pilotRaceService;
+
+	@Autowired
+	TeamService teamService;
+
+	@Autowired
+	PilotRepository pilotRepository;
+
+	@Autowired
+	ChampionshipRepository championshipRepository;
+
+	@Autowired
+	RaceRepository raceRepository;
+
+	Championship championship;
+	Race race1;
+	Race race2;
+	Pilot pilot1;
+	Pilot pilot3;
+
+	@BeforeEach
+	void setUp() {
+		championship = championshipRepository.findById(9001).orElseThrow();
+		race1 = raceRepository.findById(9001).orElseThrow();
+		race2 = raceRepository.findById(9002).orElseThrow();
+		pilot1 = pilotRepository.findById(9001).orElseThrow();
+		pilot3 = pilotRepository.findById(9003).orElseThrow();
+	}
+
+	@Test
+	@DisplayName("Teste classificação calculada a partir dos resultados")
+	@Sql({"classpath:/resources/sqls/temporada.sql"})
+	void findByChampionshipTest() {
+		pilotRaceService.insert(new PilotRace(null, 1, pilot1, race1));
+		pilotRaceService.insert(new PilotRace(null, 2, pilot3, race1));
+		pilotRaceService.insert(new PilotRace(null, 1, pilot3, race2));
+		StandingsDTO standings = standingsService.findByChampionship(championship);
+		assertEquals(2, standings.getPilots().size());
+		assertEquals(pilot3.getId(), standings.getPilots().get(0).getIdPilot());
+		assertEquals(43, standings.getPilots().get(0).getPoints());
+		assertEquals(25, standings.getPilots().get(1).getPoints());
+		assertEquals("Equipe B", standings.getTeams().get(0).getNameTeam());
+	}
+
+	@Test
+	@DisplayName("Teste classificação atualizada incrementalmente")
+	@Sql({"classpath:/resources/sqls/temporada.sql"})
+	void incrementalUpdateTest() {
+		PilotRace result = pilotRaceService.insert(new PilotRace(null, 1, pilot1, race1));
+		assertEquals(25, standingsService.findByChampionship(championship).getPilots().get(0).getPoints());
+		pilotRaceService.insert(new PilotRace(null, 3, pilot3, race1));
+		pilotRaceService.update(new PilotRace(result.getId(), 2, pilot1, race1));
+		StandingsDTO incremental = standingsService.findByChampionship(championship);
+		assertEquals(18, incremental.getPilots().get(0).getPoints());
+		assertEquals(0, incremental.getPilots().get(0).getWins());
+		pilotRaceService.delete(result.getId());
+		incremental = standingsService.findByChampionship(championship);
+		assertEquals(1, incremental.getPilots().size());
+		assertEquals(15, incremental.getPilots().get(0).getPoints());
+		standingsService.evict(championship.getId());
+		StandingsDTO reloaded = standingsService.findByChampionship(championship);
+		assertEquals(1, reloaded.getPilots().size());
+		assertEquals(15, reloaded.getPilots().get(0).getPoints());
+	}
+
+	@Test
+	@DisplayName("Teste classificação mostra o novo nome da equipe renomeada")
+	@Sql({"classpath:/resources/sqls/temporada.sql"})
+	void teamRenameTest() {
+		pilotRaceService.insert(new PilotRace(null, 1, pilot3, race1));
+		assertEquals("Equipe B", standingsService.findByChampionship(championship).getTeams().get(0).getNameTeam());
+		teamService.update(new Team(pilot3.getTeam().getId(), "Equipe B renomeada"));
+		StandingsDTO standings = standingsService.findByChampionship(championship);
+		assertEquals("Equipe B renomeada", standings.getTeams().get(0).getNameTeam());
+		assertEquals("Equipe B renomeada", standings.getPilots().get(0).getNameTeam());
+	}
+
+}
@@ -0,0 +1,110 @@
+package br.com.trier.springvespertino.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.jdbc.Sql;
+
+import br.com.trier.springvespertino.BaseTest;
+import br.com.trier.springvespertino.models.Pilot;
+import br.com.trier.springvespertino.models.PilotRace;
+import br.com.trier.springvespertino.models.Race;
+import br.com.trier.springvespertino.models.dto.PilotRaceDTO;
+import br.com.trier.springvespertino.models.dto.RaceResultDTO;
+import br.com.trier.springvespertino.repositories.PilotRepository;
+import br.com.trier.springvespertino.repositories.RaceRepository;
+import br.com.trier.springvespertino.resources.PilotRaceResource;
+import br.com.trier.springvespertino.services.exceptions.IntegrityViolation;
+import br.com.trier.springvespertino.services.exceptions.ObjectNotFound;
+import jakarta.transaction.Transactional;
+
+@Transactional
+public class PilotRaceBatchServiceTest extends BaseTest {
+
+	@Autowired
+	PilotRaceService pilotRaceService;
+
+	@Autowired
+	PilotRepository pilotRepository;
+
+	@Autowired
+	RaceRepository raceRepository;
+
+	@Autowired
+	PilotRaceResource pilotRaceResource;
+
+	Race race;
+	Pilot pilot1;
+	Pilot pilot2;
+
+	@BeforeEach
+	void setUp() {
+		pilot1 = pilotRepository.findById(9001).orElseThrow();
+		pilot2 = pilotRepository.findById(9002).orElseThrow();
+		race = raceRepository.findById(9001).orElseThrow();
+	}
+
+	@Test
+	@DisplayName("Teste inserir resultado completo da corrida")
+	@Sql({"classpath:/resources/sqls/temporada.sql"})
+	void insertAllTest() {
+		List<PilotRace> saved = pilotRaceService.insertAll(List.of(new PilotRace(null, 1, pilot1, race),
+				new PilotRace(null, 2, pilot2, race)));
+		assertEquals(2, saved.size());
+		assertEquals(2, pilotRaceService.findByRaceOrderByPlacementAsc(race).size());
+		assertEquals(pilot1.getId(), pilotRaceService.findByRaceOrderByPlacementAsc(race).get(0).getPilot().getId());
+	}
+
+	@Test
+	@DisplayName("Teste inserir resultado com colocação inválida")
+	@Sql({"classpath:/resources/sqls/temporada.sql"})
+	void insertAllInvalidPlacementTest() {
+		var ex = assertThrows(IntegrityViolation.class, () -> pilotRaceService.insertAll(
+				List.of(new PilotRace(null, 1, pilot1, race), new PilotRace(null, 0, pilot2, race))));
+		assertEquals("Colocacao zero!", ex.getMessage());
+	}
+
+	@Test
+	@DisplayName("Teste inserir resultado com piloto repetido")
+	@Sql({"classpath:/resources/sqls/temporada.sql"})
+	void insertAllDuplicatedPilotTest() {
+		var ex = assertThrows(IntegrityViolation.class, () -> pilotRaceService.insertAll(
+				List.of(new PilotRace(null, 1, pilot1, race), new PilotRace(null, 2, pilot1, race))));
+		assertEquals("Piloto %s repetido no resultado!".formatted(pilot1.getId()), ex.getMessage());
+	}
+
+	@Test
+	@DisplayName("Teste inserir resultado de piloto que já possui resultado na corrida")
+	@Sql({"classpath:/resources/sqls/temporada.sql"})
+	void insertAllExistingPilotTest() {
+		pilotRaceService.insert(new PilotRace(null, 1, pilot1, race));
+		var ex = assertThrows(IntegrityViolation.class, () -> pilotRaceService.insertAll(
+				List.of(new PilotRace(null, 1, pilot2, race), new PilotRace(null, 2, pilot1, race))));
+		assertEquals("Piloto %s já possui resultado na corrida %s!".formatted(pilot1.getId(), race.getId()),
+				ex.getMessage());
+	}
+
+	@Test
+	@DisplayName("Teste lote com resultado de outra corrida é rejeitado")
+	@Sql({"classpath:/resources/sqls/temporada.sql"})
+	void insertBatchOtherRaceTest() {
+		RaceResultDTO result = new RaceResultDTO(race.getId(), List.of(
+				new PilotRaceDTO(null, 1, pilot1.getId(), null, race.getId()),
+				new PilotRaceDTO(null, 2, pilot2.getId(), null, 9002)));
+		var ex = assertThrows(IntegrityViolation.class, () -> pilotRaceResource.insertBatch(result));
+		assertEquals("Resultado de outra corrida [9002] no lote da corrida %s!".formatted(race.getId()), ex.getMessage());
+		assertThrows(ObjectNotFound.class, () -> pilotRaceService.findByRaceOrderByPlacementAsc(race));
+		// Sem corrida na linha vale a corrida do lote
+		RaceResultDTO implicit = new RaceResultDTO(race.getId(), List.of(
+				new PilotRaceDTO(null, 1, pilot1.getId(), null, null),
+				new PilotRaceDTO(null, 2, pilot2.getId(), null, race.getId())));
+		assertEquals(2, pilotRaceResource.insertBatch(implicit).getBody().size());
+	}
+
+}
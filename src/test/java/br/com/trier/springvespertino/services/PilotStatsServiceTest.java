@@ -0,0 +1,148 @@
+package br.com.trier.springvespertino.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import br.com.trier.springvespertino.BaseCommitTest;
+import br.com.trier.springvespertino.models.Championship;
+import br.com.trier.springvespertino.models.Pilot;
+import br.com.trier.springvespertino.models.PilotRace;
+import br.com.trier.springvespertino.models.Race;
+import br.com.trier.springvespertino.models.Speedway;
+import br.com.trier.springvespertino.models.dto.PilotStatsDTO;
+import br.com.trier.springvespertino.repositories.ChampionshipRepository;
+import br.com.trier.springvespertino.repositories.PilotRaceRepository;
+import br.com.trier.springvespertino.repositories.PilotRepository;
+import br.com.trier.springvespertino.repositories.RaceRepository;
+import br.com.trier.springvespertino.repositories.SpeedwayRepository;
+
+// Sem @Transactional na classe: os deltas só são aplicados após o commit de cada escrita
+public class PilotStatsServiceTest extends BaseCommitTest {
+
+	@Autowired
+	PilotStatsService statsService;
+
+	@Autowired
+	PilotRaceService pilotRaceService;
+
+	@Autowired
+	RaceService raceService;
+
+	@Autowired
+	TransactionTemplate transactionTemplate;
+
+	@Autowired
+	PilotRaceRepository pilotRaceRepository;
+
+	@Autowired
+	PilotRepository pilotRepository;
+
+	@Autowired
+	SpeedwayRepository speedwayRepository;
+
+	@Autowired
+	ChampionshipRepository championshipRepository;
+
+	@Autowired
+	RaceRepository raceRepository;
+
+	Pilot pilot;
+	Speedway interlagos;
+	Speedway monza;
+	Race race1;
+	Race race2;
+	Race race3;
+	Championship championship;
+
+	@BeforeEach
+	void setUp() {
+		pilot = pilotRepository.findById(9001).orElseThrow();
+		interlagos = speedwayRepository.findById(9001).orElseThrow();
+		monza = speedwayRepository.findById(9002).orElseThrow();
+		championship = championshipRepository.findById(9001).orElseThrow();
+		race1 = raceRepository.findById(9001).orElseThrow();
+		race2 = raceRepository.findById(9002).orElseThrow();
+		race3 = raceRepository.findById(9003).orElseThrow();
+	}
+
+	@Test
+	@DisplayName("Teste estatísticas do piloto carregadas e atualizadas incrementalmente")
+	@Sql({"classpath:/resources/sqls/temporada.sql"})
+	void findByPilotTest() {
+		assertEquals(0, statsService.findByPilot(pilot).getRaces());
+		assertNull(statsService.findByPilot(pilot).getAveragePlacement());
+		PilotRace result = pilotRaceService.insert(new PilotRace(null, 1, pilot, race1));
+		pilotRaceService.insert(new PilotRace(null, 5, pilot, race2));
+		pilotRaceService.insert(new PilotRace(null, 3, pilot, race3));
+		PilotStatsDTO stats = statsService.findByPilot(pilot);
+		assertEquals(3, stats.getRaces());
+		assertEquals(1, stats.getWins());
+		assertEquals(2, stats.getPodiums());
+		assertEquals(3.0, stats.getAveragePlacement());
+		assertEquals(2, stats.getSpeedways().size());
+		assertEquals(interlagos.getId(), stats.getSpeedways().get(0).getIdSpeedway());
+		assertEquals(1, stats.getSpeedways().get(0).getBestPlacement());
+		pilotRaceService.update(new PilotRace(result.getId(), 4, pilot, race1));
+		stats = statsService.findByPilot(pilot);
+		assertEquals(0, stats.getWins());
+		assertEquals(4, stats.getSpeedways().get(0).getBestPlacement());
+		pilotRaceService.delete(result.getId());
+		stats = statsService.findByPilot(pilot);
+		assertEquals(2, stats.getRaces());
+		assertEquals(4.0, stats.getAveragePlacement());
+		assertEquals(5, stats.getSpeedways().get(0).getBestPlacement());
+	}
+
+	@Test
+	@DisplayName("Teste estatísticas reconstruídas em lote")
+	@Sql({"classpath:/resources/sqls/temporada.sql"})
+	void rebuildAllTest() {
+		statsService.findByPilot(pilot);
+		pilotRaceRepository.save(new PilotRace(null, 2, pilot, race3));
+		assertEquals(0, statsService.findByPilot(pilot).getRaces());
+		statsService.rebuildAll();
+		PilotStatsDTO stats = statsService.findByPilot(pilot);
+		assertEquals(1, stats.getRaces());
+		assertEquals(1, stats.getPodiums());
+		assertEquals(monza.getId(), stats.getSpeedways().get(0).getIdSpeedway());
+		assertEquals(2, stats.getSpeedways().get(0).getBestPlacement());
+	}
+
+	@Test
+	@DisplayName("Teste escrita desfeita não altera as estatísticas")
+	@Sql({"classpath:/resources/sqls/temporada.sql"})
+	void rollbackTest() {
+		pilotRaceService.insert(new PilotRace(null, 1, pilot, race1));
+		assertEquals(1, statsService.findByPilot(pilot).getRaces());
+		transactionTemplate.executeWithoutResult(status -> {
+			pilotRaceService.insert(new PilotRace(null, 2, pilot, race3));
+			status.setRollbackOnly();
+		});
+		PilotStatsDTO stats = statsService.findByPilot(pilot);
+		assertEquals(1, stats.getRaces());
+		assertEquals(1, stats.getSpeedways().size());
+	}
+
+	@Test
+	@DisplayName("Teste corrida movida para outra pista atualiza as estatísticas")
+	@Sql({"classpath:/resources/sqls/temporada.sql"})
+	void raceSpeedwayChangedTest() {
+		pilotRaceService.insert(new PilotRace(null, 1, pilot, race1));
+		pilotRaceService.insert(new PilotRace(null, 3, pilot, race3));
+		assertEquals(2, statsService.findByPilot(pilot).getSpeedways().size());
+		raceService.update(new Race(race3.getId(), race3.getDate(), interlagos, championship));
+		PilotStatsDTO stats = statsService.findByPilot(pilot);
+		assertEquals(2, stats.getRaces());
+		assertEquals(1, stats.getSpeedways().size());
+		assertEquals(interlagos.getId(), stats.getSpeedways().get(0).getIdSpeedway());
+		assertEquals(2, stats.getSpeedways().get(0).getRaces());
+	}
+
+}
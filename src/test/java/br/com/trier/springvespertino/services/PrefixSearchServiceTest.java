@@ -0,0 +1,77 @@
+package br.com.trier.springvespertino.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import br.com.trier.springvespertino.BaseTest;
+import br.com.trier.springvespertino.models.Country;
+import br.com.trier.springvespertino.models.Pilot;
+import br.com.trier.springvespertino.models.Team;
+import br.com.trier.springvespertino.repositories.CountryRepository;
+import br.com.trier.springvespertino.repositories.TeamRepository;
+import br.com.trier.springvespertino.services.exceptions.ObjectNotFound;
+import jakarta.transaction.Transactional;
+
+@Transactional
+// O limite de resultados exige outro contexto, com banco próprio para não derrubar o esquema do compartilhado
+@TestPropertySource(properties = { "spring.datasource.url=jdbc:h2:mem:prefixsearch;DB_CLOSE_ON_EXIT=FALSE",
+		"search.prefix.max-results=2" })
+public class PrefixSearchServiceTest extends BaseTest {
+
+	@Autowired
+	PilotService pilotService;
+
+	@Autowired
+	CountryRepository countryRepository;
+
+	@Autowired
+	TeamRepository teamRepository;
+
+	Country country;
+	Team team;
+
+	@BeforeEach
+	void setUp() {
+		country = countryRepository.save(new Country(null, "Brasil"));
+		team = teamRepository.save(new Team(null, "Equipe A"));
+	}
+
+	private List<String> names(String prefix) {
+		return pilotService.findByNameStartsWithIgnoreCase(prefix).stream().map(Pilot::getName).toList();
+	}
+
+	@Test
+	@DisplayName("Teste busca por prefixo sem acento e sem caixa")
+	void findByNameStartsWithIgnoreCaseTest() {
+		pilotService.insert(new Pilot(null, "Ângelo Conceição", country, team));
+		pilotService.insert(new Pilot(null, "andré", country, team));
+		pilotService.insert(new Pilot(null, "Bruno", country, team));
+		assertEquals(List.of("andré", "Ângelo Conceição"), names("AN"));
+		assertEquals(List.of("Ângelo Conceição"), names("angelo conc"));
+		assertEquals(List.of("Bruno"), names("b"));
+	}
+
+	@Test
+	@DisplayName("Teste busca por prefixo limitada e atualizada")
+	void findByNameStartsWithIgnoreCaseUpdateTest() {
+		Pilot ana = pilotService.insert(new Pilot(null, "Ana", country, team));
+		pilotService.insert(new Pilot(null, "Anabela", country, team));
+		pilotService.insert(new Pilot(null, "Anastácia", country, team));
+		assertEquals(List.of("Ana", "Anabela"), names("ana"));
+		pilotService.update(new Pilot(ana.getId(), "Zuleica", country, team));
+		assertEquals(List.of("Anabela", "Anastácia"), names("ana"));
+		assertEquals(List.of("Zuleica"), names("zu"));
+		pilotService.delete(ana.getId());
+		var ex = assertThrows(ObjectNotFound.class, () -> names("zu"));
+		assertEquals("Nenhum piloto com esse nome", ex.getMessage());
+	}
+
+}
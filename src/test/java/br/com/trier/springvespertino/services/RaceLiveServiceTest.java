@@ -0,0 +1,175 @@
+package br.com.trier.springvespertino.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import br.com.trier.springvespertino.BaseCommitTest;
+import br.com.trier.springvespertino.models.Pilot;
+import br.com.trier.springvespertino.models.PilotRace;
+import br.com.trier.springvespertino.models.Race;
+import br.com.trier.springvespertino.models.dto.PilotRaceLiveDTO;
+import br.com.trier.springvespertino.repositories.PilotRepository;
+import br.com.trier.springvespertino.repositories.RaceRepository;
+import br.com.trier.springvespertino.services.events.PilotRaceEvent;
+import br.com.trier.springvespertino.services.events.PilotRaceSnapshot;
+import br.com.trier.springvespertino.services.impl.RaceLiveServiceImpl;
+import br.com.trier.springvespertino.utils.LiveEventBus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// Sem @Transactional na classe: os eventos são publicados após o commit
+public class RaceLiveServiceTest extends BaseCommitTest {
+
+	@Autowired
+	RaceLiveService liveService;
+
+	@Autowired
+	PilotRaceService pilotRaceService;
+
+	@Autowired
+	PilotRepository pilotRepository;
+
+	@Autowired
+	RaceRepository raceRepository;
+
+	@Autowired
+	TransactionTemplate transactionTemplate;
+
+	private PilotRaceLiveDTO next(BlockingQueue<PilotRaceLiveDTO> events) throws InterruptedException {
+		return events.poll(5, TimeUnit.SECONDS);
+	}
+
+	@Test
+	@DisplayName("Teste assinante recebe inclusão, alteração e exclusão da corrida")
+	@Sql({"classpath:/resources/sqls/temporada.sql"})
+	void subscribeTest() throws Exception {
+		Pilot pilot = pilotRepository.findById(9001).orElseThrow();
+		Race race1 = raceRepository.findById(9001).orElseThrow();
+		Race race2 = raceRepository.findById(9002).orElseThrow();
+		BlockingQueue<PilotRaceLiveDTO> events = new LinkedBlockingQueue<>();
+		LiveEventBus<Integer, PilotRaceLiveDTO>.Subscription subscription = liveService.subscribe(race1.getId(), events::add);
+		subscription.start();
+
+		// Cada escrita em sua transação, como numa requisição
+		PilotRace result = transactionTemplate.execute(status -> pilotRaceService.insert(new PilotRace(null, 2, pilot, race1)));
+		transactionTemplate.execute(status -> pilotRaceService.update(new PilotRace(result.getId(), 1, pilot, race1)));
+		transactionTemplate.execute(status -> pilotRaceService.update(new PilotRace(result.getId(), 1, pilot, race2)));
+
+		PilotRaceLiveDTO event = next(events);
+		assertEquals(PilotRaceLiveDTO.INSERTED, event.getType());
+		assertEquals(2, event.getPlacement());
+		assertEquals("Piloto 1", event.getNamePilot());
+		event = next(events);
+		assertEquals(PilotRaceLiveDTO.UPDATED, event.getType());
+		assertEquals(1, event.getPlacement());
+		// Resultado movido para outra corrida sai desta
+		event = next(events);
+		assertEquals(PilotRaceLiveDTO.DELETED, event.getType());
+		assertEquals(race1.getId(), event.getIdRace());
+
+		liveService.unsubscribe(subscription);
+		transactionTemplate.executeWithoutResult(status -> pilotRaceService.delete(result.getId()));
+		assertNull(events.poll(200, TimeUnit.MILLISECONDS));
+	}
+
+	@Test
+	@DisplayName("Teste buffer cheio descarta os eventos mais antigos")
+	void dropOldestTest() {
+		LiveEventBus<Integer, Integer> bus = new LiveEventBus<>(2, Runnable::run);
+		List<Integer> received = new ArrayList<>();
+		LiveEventBus<Integer, Integer>.Subscription subscription = bus.subscribe(1, received::add);
+		bus.publish(1, 1);
+		bus.publish(1, 2);
+		bus.publish(1, 3);
+		bus.publish(2, 4);
+		assertEquals(List.of(), received);
+		subscription.start();
+		assertEquals(List.of(2, 3), received);
+		assertEquals(1, bus.getDropped());
+		bus.publish(1, 5);
+		assertEquals(List.of(2, 3, 5), received);
+	}
+
+	@Test
+	@DisplayName("Teste assinante travado não para a entrega dos demais e é removido")
+	void stalledSubscriberTest() throws Exception {
+		// Uma única thread de entrega e prazo curto: sem compensação o assinante rápido ficaria na fila
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		RaceLiveServiceImpl service = new RaceLiveServiceImpl(registry, 64, 1, 200, 60);
+		try {
+			CountDownLatch sending = new CountDownLatch(1);
+			CountDownLatch release = new CountDownLatch(1);
+			CountDownLatch stalled = new CountDownLatch(1);
+			LiveEventBus<Integer, PilotRaceLiveDTO>.Subscription slow = service.subscribe(1, new LiveEventBus.Sink<>() {
+				@Override
+				public void send(PilotRaceLiveDTO event) throws InterruptedException {
+					sending.countDown();
+					release.await();
+				}
+
+				@Override
+				public void stalled() {
+					stalled.countDown();
+				}
+			});
+			slow.start();
+			BlockingQueue<PilotRaceLiveDTO> events = new LinkedBlockingQueue<>();
+			service.onPilotRaceChanged(new PilotRaceEvent(null, new PilotRaceSnapshot(1, 1, 1, "Piloto 1", 1, "Equipe A", 1, 1, 1)));
+			assertTrue(sending.await(5, TimeUnit.SECONDS));
+
+			service.subscribe(1, events::add).start();
+			service.onPilotRaceChanged(new PilotRaceEvent(null, new PilotRaceSnapshot(2, 2, 2, "Piloto 2", 1, "Equipe A", 1, 1, 1)));
+			PilotRaceLiveDTO event = next(events);
+			assertEquals(2, event.getIdPilot());
+			assertEquals(1, registry.get("live.stalled").functionCounter().count());
+			assertEquals(1, registry.get("live.subscribers").gauge().value());
+			assertFalse(stalled.await(0, TimeUnit.MILLISECONDS));
+
+			// O envio travado enfim retorna: o assinante já saiu e a conexão é encerrada
+			release.countDown();
+			assertTrue(stalled.await(5, TimeUnit.SECONDS));
+		} finally {
+			service.shutdown();
+		}
+	}
+
+	@Test
+	@DisplayName("Teste heartbeat só para assinante iniciado e sem eventos pendentes")
+	void heartbeatTest() {
+		LiveEventBus<Integer, Integer> bus = new LiveEventBus<>(2, Runnable::run);
+		List<String> received = new ArrayList<>();
+		LiveEventBus<Integer, Integer>.Subscription subscription = bus.subscribe(1, new LiveEventBus.Sink<>() {
+			@Override
+			public void send(Integer event) {
+				received.add("evento " + event);
+			}
+
+			@Override
+			public void heartbeat() {
+				received.add("heartbeat");
+			}
+		});
+		bus.heartbeat();
+		assertEquals(List.of(), received);
+		subscription.start();
+		bus.heartbeat();
+		bus.publish(1, 1);
+		bus.heartbeat();
+		assertEquals(List.of("heartbeat", "evento 1", "heartbeat"), received);
+	}
+
+}
@@ -0,0 +1,76 @@
+package br.com.trier.springvespertino.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import br.com.trier.springvespertino.BaseTest;
+import br.com.trier.springvespertino.config.CacheRegistry;
+import br.com.trier.springvespertino.models.Championship;
+import br.com.trier.springvespertino.models.Country;
+import br.com.trier.springvespertino.models.Speedway;
+import br.com.trier.springvespertino.models.Team;
+import br.com.trier.springvespertino.utils.BoundedCache;
+import jakarta.transaction.Transactional;
+
+@Transactional
+// Propriedades idênticas às de CacheResourceTest para reaproveitar o mesmo contexto
+@TestPropertySource(properties = { "spring.datasource.url=jdbc:h2:mem:referencecache;DB_CLOSE_ON_EXIT=FALSE",
+		"reference-cache.size=100" })
+public class ReferenceCacheServiceTest extends BaseTest {
+
+	@Autowired
+	TeamService teamService;
+
+	@Autowired
+	CountryService countryService;
+
+	@Autowired
+	SpeedwayService speedwayService;
+
+	@Autowired
+	ChampionshipService championshipService;
+
+	@Autowired
+	CacheRegistry registry;
+
+	@Test
+	@DisplayName("Teste busca por id servida pelo cache")
+	void findByIdCachedTest() {
+		Team team = teamService.salvar(new Team(null, "Equipe cache"));
+		BoundedCache<?, ?> cache = registry.getCaches().get("teams");
+		long hits = cache.getHits();
+		Team first = teamService.findById(team.getId());
+		Team second = teamService.findById(team.getId());
+		assertEquals(hits + 1, cache.getHits());
+		// Cada leitura recebe uma cópia própria: alterar uma não afeta o cache
+		assertNotSame(first, second);
+		second.setId(-1);
+		assertEquals(team.getId(), teamService.findById(team.getId()).getId());
+		assertEquals("Equipe cache", teamService.findById(team.getId()).getName());
+		int cachedChampionships = registry.getCaches().get("championships").size();
+		assertNull(championshipService.findById(999));
+		assertEquals(cachedChampionships, registry.getCaches().get("championships").size());
+	}
+
+	@Test
+	@DisplayName("Teste invalidação do cache na alteração")
+	void updateInvalidatesTest() {
+		Country country = countryService.salvar(new Country(null, "Brasil"));
+		Speedway speedway = speedwayService.insert(new Speedway(null, "Interlagos", 4309, country));
+		Championship championship = championshipService.insert(new Championship(null, "Campeonato", 2020));
+		assertEquals("Brasil", speedwayService.findById(speedway.getId()).getCountry().getName());
+		championshipService.findById(championship.getId());
+		countryService.update(new Country(country.getId(), "Brasil alterado"));
+		championshipService.update(new Championship(championship.getId(), "Campeonato alterado", 2020));
+		assertEquals("Brasil alterado", countryService.findById(country.getId()).getName());
+		assertEquals("Campeonato alterado", championshipService.findById(championship.getId()).getDescription());
+		assertEquals(0, registry.getCaches().get("speedways").size());
+	}
+
+}
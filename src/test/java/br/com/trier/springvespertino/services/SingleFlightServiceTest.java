@@ -0,0 +1,134 @@
+package br.com.trier.springvespertino.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.jdbc.Sql;
+
+import br.com.trier.springvespertino.BaseCommitTest;
+import br.com.trier.springvespertino.config.SingleFlightRegistry;
+import br.com.trier.springvespertino.config.TableVersions;
+import br.com.trier.springvespertino.models.Race;
+import br.com.trier.springvespertino.models.dto.RaceDTO;
+import br.com.trier.springvespertino.repositories.RaceRepository;
+import br.com.trier.springvespertino.utils.SingleFlight;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// Sem @Transactional: dentro de uma transação as consultas não são compartilhadas
+public class SingleFlightServiceTest extends BaseCommitTest {
+
+	private static final int THREADS = 8;
+
+	@Autowired
+	RaceService raceService;
+
+	@Autowired
+	SingleFlightRegistry singleFlightRegistry;
+
+	@Autowired
+	MeterRegistry meterRegistry;
+
+	@Autowired
+	TableVersions tableVersions;
+
+	@Autowired
+	RaceRepository raceRepository;
+
+	@Test
+	@DisplayName("Teste consultas concorrentes por corrida retornam o mesmo resultado")
+	@Sql({"classpath:/resources/sqls/temporada.sql"})
+	void findDTOByIdConcurrentTest() throws Exception {
+		Race race = raceRepository.findById(9001).orElseThrow();
+		double before = meterRegistry.get("singleflight.calls").tag("name", "race.findDTOById").functionCounter().count();
+
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<RaceDTO>> futures = new ArrayList<>();
+		for (int i = 0; i < THREADS; i++) {
+			futures.add(executor.submit(() -> {
+				start.await();
+				return raceService.findDTOById(race.getId());
+			}));
+		}
+		start.countDown();
+		for (Future<RaceDTO> future : futures) {
+			assertEquals(race.getId(), future.get(10, TimeUnit.SECONDS).getId());
+		}
+		executor.shutdown();
+		assertEquals(before + THREADS,
+				meterRegistry.get("singleflight.calls").tag("name", "race.findDTOById").functionCounter().count());
+	}
+
+	@Test
+	@DisplayName("Teste chamadas idênticas em andamento executam a consulta uma vez")
+	void deduplicateTest() throws Exception {
+		SingleFlight<Integer, String> singleFlight = singleFlightRegistry.create("test");
+		CountDownLatch release = new CountDownLatch(1);
+		AtomicInteger loads = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		List<Future<String>> futures = new ArrayList<>();
+		for (int i = 0; i < THREADS; i++) {
+			futures.add(executor.submit(() -> singleFlight.execute(1, () -> {
+				loads.incrementAndGet();
+				try {
+					release.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				return "resultado";
+			})));
+		}
+		long deadline = System.currentTimeMillis() + 10_000;
+		while (singleFlight.getDeduplicated() < THREADS - 1 && System.currentTimeMillis() < deadline) {
+			Thread.sleep(5);
+		}
+		release.countDown();
+		for (Future<String> future : futures) {
+			assertEquals("resultado", future.get(10, TimeUnit.SECONDS));
+		}
+		executor.shutdown();
+		assertEquals(1, loads.get());
+		assertEquals(THREADS - 1, meterRegistry.get("singleflight.deduplicated").tag("name", "test").functionCounter().count());
+		assertEquals(0, singleFlight.getInFlight());
+	}
+
+	@Test
+	@DisplayName("Teste chamada após uma escrita não aguarda consulta anterior a ela")
+	void writeBetweenTest() throws Exception {
+		SingleFlight<Integer, String> singleFlight = singleFlightRegistry.create("test-write", "test_write");
+		CountDownLatch release = new CountDownLatch(1);
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		Future<String> before = executor.submit(() -> singleFlight.execute(1, () -> {
+			try {
+				release.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return "antes";
+		}));
+		long deadline = System.currentTimeMillis() + 10_000;
+		while (singleFlight.getInFlight() == 0 && System.currentTimeMillis() < deadline) {
+			Thread.sleep(5);
+		}
+		tableVersions.bump("test_write");
+		// Executa a própria consulta em vez de esperar a que começou antes da escrita
+		assertEquals("depois", singleFlight.execute(1, () -> "depois"));
+		release.countDown();
+		assertEquals("antes", before.get(10, TimeUnit.SECONDS));
+		executor.shutdown();
+		assertEquals(0, singleFlight.getDeduplicated());
+		assertEquals(0, singleFlight.getInFlight());
+	}
+
+}
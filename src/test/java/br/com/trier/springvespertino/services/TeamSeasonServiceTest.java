@@ -0,0 +1,160 @@
+package br.com.trier.springvespertino.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.jdbc.Sql;
+
+import br.com.trier.springvespertino.BaseCommitTest;
+import br.com.trier.springvespertino.models.Championship;
+import br.com.trier.springvespertino.models.Pilot;
+import br.com.trier.springvespertino.models.PilotRace;
+import br.com.trier.springvespertino.models.Race;
+import br.com.trier.springvespertino.models.Team;
+import br.com.trier.springvespertino.models.dto.TeamSeasonDTO;
+import br.com.trier.springvespertino.repositories.ChampionshipRepository;
+import br.com.trier.springvespertino.repositories.PilotRepository;
+import br.com.trier.springvespertino.repositories.RaceRepository;
+import br.com.trier.springvespertino.repositories.SpeedwayRepository;
+import br.com.trier.springvespertino.repositories.TeamRepository;
+
+// Sem @Transactional: a invalidação acontece após o commit das escritas
+public class TeamSeasonServiceTest extends BaseCommitTest {
+
+	@Autowired
+	TeamSeasonService teamSeasonService;
+
+	@Autowired
+	PilotRaceService pilotRaceService;
+
+	@Autowired
+	PilotService pilotService;
+
+	@Autowired
+	RaceService raceService;
+
+	@Autowired
+	ChampionshipService championshipService;
+
+	@Autowired
+	TeamRepository teamRepository;
+
+	@Autowired
+	PilotRepository pilotRepository;
+
+	@Autowired
+	SpeedwayRepository speedwayRepository;
+
+	@Autowired
+	ChampionshipRepository championshipRepository;
+
+	@Autowired
+	RaceRepository raceRepository;
+
+	Team teamA;
+	Team teamB;
+	Pilot pilot1;
+	Pilot pilot2;
+	Pilot pilot3;
+	Championship championship;
+	Race race1;
+	Race race2;
+
+	@BeforeEach
+	void setUp() {
+		teamA = teamRepository.findById(9001).orElseThrow();
+		teamB = teamRepository.findById(9002).orElseThrow();
+		pilot1 = pilotRepository.findById(9001).orElseThrow();
+		pilot2 = pilotRepository.findById(9002).orElseThrow();
+		pilot3 = pilotRepository.findById(9003).orElseThrow();
+		championship = championshipRepository.findById(9001).orElseThrow();
+		race1 = raceRepository.findById(9001).orElseThrow();
+		race2 = raceRepository.findById(9002).orElseThrow();
+	}
+
+	@Test
+	@DisplayName("Teste agregados das equipes por campeonato")
+	@Sql({"classpath:/resources/sqls/temporada.sql"})
+	void findByChampionshipTest() {
+		pilotRaceService.insertAll(List.of(new PilotRace(null, 1, pilot1, race1), new PilotRace(null, 2, pilot3, race1),
+				new PilotRace(null, 3, pilot2, race1)));
+
+		List<TeamSeasonDTO> teams = teamSeasonService.findByChampionship(championship);
+		assertEquals(2, teams.size());
+		assertEquals(teamA.getId(), teams.get(0).getIdTeam());
+		assertEquals(2020, teams.get(0).getYear());
+		assertEquals(2, teams.get(0).getResults());
+		assertEquals(1, teams.get(0).getWins());
+		assertEquals(2, teams.get(0).getPodiums());
+		assertEquals(40, teams.get(0).getPoints());
+		assertEquals(18, teams.get(1).getPoints());
+
+		pilotRaceService.insertAll(List.of(new PilotRace(null, 1, pilot3, race2), new PilotRace(null, 2, pilot1, race2)));
+		teams = teamSeasonService.findByChampionship(championship);
+		assertEquals(teamA.getId(), teams.get(0).getIdTeam());
+		assertEquals(58, teams.get(0).getPoints());
+		assertEquals(43, teams.get(1).getPoints());
+		assertEquals(1, teams.get(1).getWins());
+
+		pilotService.update(new Pilot(pilot1.getId(), "Piloto 1", pilot1.getCountry(), teamB));
+		teams = teamSeasonService.findByChampionship(championship);
+		assertEquals(teamB.getId(), teams.get(0).getIdTeam());
+		assertEquals(86, teams.get(0).getPoints());
+		assertEquals(15, teams.get(1).getPoints());
+	}
+
+	@Test
+	@DisplayName("Teste corrida movida para outro campeonato atualiza os dois")
+	@Sql({"classpath:/resources/sqls/temporada.sql"})
+	void raceChampionshipChangedTest() {
+		Championship second = championshipRepository.findById(9002).orElseThrow();
+		Race race = raceRepository.findById(9003).orElseThrow();
+		pilotRaceService.insert(new PilotRace(null, 1, pilot3, race));
+		assertEquals(25, teamSeasonService.findByChampionship(championship).get(0).getPoints());
+		assertEquals(0, teamSeasonService.findByChampionship(second).size());
+
+		raceService.update(new Race(race.getId(), race.getDate(), speedwayRepository.findById(9002).orElseThrow(), second));
+		assertEquals(0, teamSeasonService.findByChampionship(championship).size());
+		List<TeamSeasonDTO> teams = teamSeasonService.findByChampionship(second);
+		assertEquals(1, teams.size());
+		assertEquals(teamB.getId(), teams.get(0).getIdTeam());
+		assertEquals(25, teams.get(0).getPoints());
+	}
+
+	@Test
+	@DisplayName("Teste piloto movido pela API sai da equipe antiga")
+	@Sql({"classpath:/resources/sqls/temporada.sql"})
+	void pilotMovedByResourceTest() {
+		pilotRaceService.insert(new PilotRace(null, 1, pilot1, race1));
+		assertEquals(teamA.getId(), teamSeasonService.findByChampionship(championship).get(0).getIdTeam());
+
+		// Pelo resource a atualização roda com open-in-view, ao contrário da chamada direta ao serviço
+		Pilot moved = new Pilot(null, "Piloto 1", pilot1.getCountry(), teamB);
+		assertEquals(HttpStatus.OK, rest.exchange("/pilot/" + pilot1.getId(), HttpMethod.PUT, new HttpEntity<>(moved),
+				Pilot.class).getStatusCode());
+		List<TeamSeasonDTO> teams = teamSeasonService.findByChampionship(championship);
+		assertEquals(1, teams.size());
+		assertEquals(teamB.getId(), teams.get(0).getIdTeam());
+		assertEquals(25, teams.get(0).getPoints());
+	}
+
+	@Test
+	@DisplayName("Teste alteração do ano do campeonato atualiza os agregados")
+	@Sql({"classpath:/resources/sqls/temporada.sql"})
+	void championshipUpdatedTest() {
+		pilotRaceService.insert(new PilotRace(null, 1, pilot1, race1));
+		assertEquals(2020, teamSeasonService.findByChampionship(championship).get(0).getYear());
+		championshipService.update(new Championship(championship.getId(), championship.getDescription(), 2021));
+		assertEquals(2021, teamSeasonService.findByChampionship(championshipRepository.findById(championship.getId())
+				.orElseThrow()).get(0).getYear());
+	}
+
+}
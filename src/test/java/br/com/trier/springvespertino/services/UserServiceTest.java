@@ -3,12 +3,14 @@ package br.com.trier.springvespertino.services;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.List;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.jdbc.Sql;
 
 import br.com.trier.springvespertino.BaseTest;
@@ -23,6 +25,9 @@ public class UserServiceTest extends BaseTest{
 	@Autowired
 	UserService userService;
 	
+	@Autowired
+	PasswordEncoder encoder;
+	
 	@Test
 	@DisplayName("Teste buscar usuário por ID")
 	@Sql({"classpath:/resources/sqls/usuario.sql"})
@@ -53,7 +58,7 @@ public class UserServiceTest extends BaseTest{
 		assertEquals(1, usuario.getId());
 		assertEquals("insert", usuario.getName());
 		assertEquals("insert", usuario.getEmail());
-		assertEquals("insert", usuario.getPassword());
+		assertTrue(encoder.matches("insert", usuario.getPassword()));
 	}
 	
 	@Test
@@ -0,0 +1,109 @@
+package br.com.trier.springvespertino.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class BoundedCacheTest {
+
+	@Test
+	@DisplayName("Teste limite de entradas descarta as menos acessadas")
+	void sizeCapTest() {
+		BoundedCache<Integer, String> cache = new BoundedCache<>(10, 60_000);
+		for (int i = 0; i < 10; i++) {
+			cache.put(i, "v" + i);
+		}
+		assertEquals("v0", cache.get(0));
+		cache.put(10, "v10");
+		assertEquals(9, cache.size());
+		assertEquals("v0", cache.get(0));
+		assertEquals("v10", cache.get(10));
+		assertNull(cache.get(1));
+		assertNull(cache.get(2));
+		assertEquals("v3", cache.get(3));
+	}
+
+	@Test
+	@DisplayName("Teste entradas expiradas são descartadas antes das válidas")
+	void expiredEvictedFirstTest() {
+		BoundedCache<Integer, String> cache = new BoundedCache<>(10, 60_000);
+		for (int i = 0; i < 9; i++) {
+			cache.put(i, "v" + i);
+		}
+		cache.put(9, "expirado", System.currentTimeMillis() - 1);
+		cache.put(10, "v10");
+		assertEquals(9, cache.size());
+		assertNull(cache.get(9));
+		assertNull(cache.get(0));
+		assertEquals("v1", cache.get(1));
+		assertEquals("v10", cache.get(10));
+	}
+
+	@Test
+	@DisplayName("Teste TTL e limite da expiração informada")
+	void ttlTest() {
+		BoundedCache<Integer, String> expired = new BoundedCache<>(10, 0);
+		expired.put(1, "v1");
+		assertNull(expired.get(1));
+		// expiresAt além do TTL é limitado ao TTL
+		expired.put(2, "v2", System.currentTimeMillis() + 60_000);
+		assertNull(expired.get(2));
+		assertEquals(0, expired.size());
+
+		BoundedCache<Integer, String> cache = new BoundedCache<>(10, 60_000);
+		cache.put(1, "v1", System.currentTimeMillis() - 1);
+		assertNull(cache.get(1));
+		cache.put(2, "v2", System.currentTimeMillis() + 30_000);
+		assertEquals("v2", cache.get(2));
+		assertEquals(1, cache.getHits());
+		assertEquals(1, cache.getMisses());
+	}
+
+	@Test
+	@DisplayName("Teste cache com tamanho zero não guarda")
+	void disabledTest() {
+		BoundedCache<Integer, String> cache = new BoundedCache<>(0, 60_000);
+		cache.put(1, "v1");
+		assertNull(cache.get(1));
+		assertEquals(0, cache.size());
+	}
+
+	@Test
+	@DisplayName("Teste carga concorrente com invalidação não é guardada")
+	void putIfCurrentTest() {
+		BoundedCache<Integer, String> cache = new BoundedCache<>(10, 60_000);
+		long generation = cache.generation();
+		// Invalidação entre a leitura da fonte e a inclusão: o valor lido pode ser o antigo
+		cache.invalidate(1);
+		cache.putIfCurrent(1, "antigo", generation);
+		assertNull(cache.get(1));
+		generation = cache.generation();
+		cache.putIfCurrent(1, "novo", generation);
+		assertEquals("novo", cache.get(1));
+		generation = cache.generation();
+		cache.invalidateAll();
+		cache.putIfCurrent(2, "antigo", generation);
+		assertNull(cache.get(2));
+	}
+
+	@Test
+	@DisplayName("Teste cache com cópia não compartilha valores mutáveis")
+	void copierTest() {
+		BoundedCache<Integer, List<String>> cache = new BoundedCache<>(10, 60_000, ArrayList::new);
+		List<String> value = new ArrayList<>(List.of("a"));
+		cache.put(1, value);
+		value.add("b");
+		List<String> first = cache.get(1);
+		assertEquals(List.of("a"), first);
+		first.add("c");
+		assertNotSame(first, cache.get(1));
+		assertEquals(List.of("a"), cache.get(1));
+	}
+
+}
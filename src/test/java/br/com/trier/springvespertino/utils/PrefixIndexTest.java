@@ -0,0 +1,53 @@
+package br.com.trier.springvespertino.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import br.com.trier.springvespertino.models.dto.IdNameDTO;
+
+public class PrefixIndexTest {
+
+	@Test
+	@DisplayName("Teste busca por prefixo sem acento e escritas após a carga")
+	void searchTest() {
+		List<IdNameDTO> rows = new ArrayList<>(List.of(new IdNameDTO(1, "Ayrton Senna"), new IdNameDTO(2, "Átila Abreu"),
+				new IdNameDTO(3, "Alain Prost")));
+		PrefixIndex index = new PrefixIndex(() -> rows);
+		assertEquals(List.of(3, 2, 1), index.search("a", 10));
+		assertEquals(List.of(2), index.search("ATI", 10));
+		index.put(4, "Alex Dias Ribeiro");
+		index.put(2, "Bruno Senna");
+		index.remove(3);
+		assertEquals(List.of(4, 1), index.search("a", 10));
+		assertEquals(List.of(2), index.search("b", 10));
+		assertEquals(3, index.size());
+	}
+
+	@Test
+	@DisplayName("Teste carga concorrente com escrita não é publicada")
+	void loadRacingWriteTest() {
+		List<IdNameDTO> rows = new ArrayList<>(List.of(new IdNameDTO(1, "Ayrton Senna")));
+		AtomicInteger loads = new AtomicInteger();
+		PrefixIndex[] index = new PrefixIndex[1];
+		index[0] = new PrefixIndex(() -> {
+			// Escrita confirmada depois da leitura do banco: a carga não a contém
+			List<IdNameDTO> read = List.copyOf(rows);
+			if (loads.incrementAndGet() == 1) {
+				rows.add(new IdNameDTO(2, "Alain Prost"));
+				index[0].put(2, "Alain Prost");
+			}
+			return read;
+		});
+		assertEquals(List.of(), index[0].search("alain", 10));
+		assertEquals(0, index[0].size());
+		assertEquals(List.of(2), index[0].search("alain", 10));
+		assertEquals(2, loads.get());
+	}
+
+}
@@ -0,0 +1,96 @@
+package br.com.trier.springvespertino.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import br.com.trier.springvespertino.models.dto.IdNameDTO;
+
+public class TokenIndexTest {
+
+	@Test
+	@DisplayName("Teste pontuação por palavra exata e por prefixo")
+	void searchTest() {
+		TokenIndex index = new TokenIndex();
+		index.rebuild(() -> List.of(new IdNameDTO(1, "Fórmula 1 2020"), new IdNameDTO(2, "Formula Indy"),
+				new IdNameDTO(3, "Stock Car Formulario")));
+		assertEquals(List.of(2, 1, 3), index.search("formula", 10));
+		assertEquals(List.of(1), index.search("formula 2020", 1));
+	}
+
+	@Test
+	@DisplayName("Teste alteração e remoção descartam listas vazias")
+	void pruneTest() {
+		TokenIndex index = new TokenIndex();
+		index.put(1, "Fórmula Indy");
+		index.put(2, "Fórmula 1");
+		assertEquals(3, index.tokenCount());
+		index.put(1, "Stock Car");
+		assertEquals(List.of(), index.search("indy", 10));
+		assertEquals(List.of(1), index.search("stock", 10));
+		assertEquals(4, index.tokenCount());
+		index.remove(1);
+		index.remove(2);
+		assertEquals(0, index.tokenCount());
+		assertEquals(0, index.size());
+	}
+
+	@Test
+	@DisplayName("Teste alterações concorrentes do mesmo id deixam só a última descrição")
+	void concurrentPutTest() throws Exception {
+		TokenIndex index = new TokenIndex();
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int t = 0; t < 8; t++) {
+				String text = t % 2 == 0 ? "alfa beta" : "gama delta";
+				futures.add(executor.submit(() -> {
+					for (int i = 0; i < 2_000; i++) {
+						index.put(1, text);
+					}
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} finally {
+			executor.shutdown();
+		}
+		boolean first = index.search("alfa", 10).contains(1);
+		boolean second = index.search("gama", 10).contains(1);
+		assertTrue(first ^ second);
+		assertEquals(first, index.search("beta", 10).contains(1));
+		assertEquals(second, index.search("delta", 10).contains(1));
+		assertEquals(2, index.tokenCount());
+	}
+
+	@Test
+	@DisplayName("Teste reconstrução refeita quando uma escrita concorre com a carga")
+	void rebuildConcurrentWriteTest() {
+		TokenIndex index = new TokenIndex();
+		index.put(1, "Fórmula Indy");
+		AtomicInteger loads = new AtomicInteger();
+		index.rebuild(() -> {
+			if (loads.incrementAndGet() == 1) {
+				// Inserção gravada depois da leitura das linhas: só a próxima carga a enxerga
+				index.put(2, "Stock Car");
+				return List.of(new IdNameDTO(1, "Fórmula Indy"));
+			}
+			return List.of(new IdNameDTO(1, "Fórmula Indy"), new IdNameDTO(2, "Stock Car"));
+		});
+		assertEquals(2, loads.get());
+		assertEquals(List.of(2), index.search("stock", 10));
+		assertEquals(List.of(1), index.search("indy", 10));
+		assertEquals(2, index.size());
+	}
+
+}
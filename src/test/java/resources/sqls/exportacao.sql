@@ -0,0 +1,9 @@
+INSERT INTO pais(id, name) VALUES(9001, 'Brasil');
+INSERT INTO equipe(id_quipe, nome_equipe) VALUES(9001, 'Equipe');
+INSERT INTO piloto(id_piloto, nome_piloto, country_id, team_id_quipe) VALUES(9001, 'Piloto 1', 9001, 9001);
+INSERT INTO piloto(id_piloto, nome_piloto, country_id, team_id_quipe) VALUES(9002, 'Piloto 2', 9001, 9001);
+INSERT INTO pista(id_pista, nome_pista, tamanho_pista, country_id) VALUES(9001, 'Interlagos', 4309, 9001);
+INSERT INTO campeonato(codigo_campeonato, descricao, ano) VALUES(9001, 'Campeonato 2020', 2020);
+INSERT INTO corrida(id_corrida, data_corrida, speedway_id_pista, championship_codigo_campeonato) SELECT 9100 + X, '2020-03-01 00:00:00', 9001, 9001 FROM SYSTEM_RANGE(1, 30);
+INSERT INTO piloto_corrida(id, colocacao, pilot_id_piloto, race_id_corrida) SELECT 9100 + X, 1, 9001, 9100 + X FROM SYSTEM_RANGE(1, 30);
+INSERT INTO piloto_corrida(id, colocacao, pilot_id_piloto, race_id_corrida) SELECT 9200 + X, 2, 9002, 9100 + X FROM SYSTEM_RANGE(1, 30);
@@ -1,8 +1,15 @@
-delete from usuario where id_usuario is not null;
-delete from equipe where id_equipe is not null;
+delete from piloto_corrida where id is not null;
+delete from corrida where id_corrida is not null;
+delete from piloto where id_piloto is not null;
 delete from pista where id_pista is not null;
 delete from campeonato where codigo_campeonato is not null;
+delete from equipe where id_quipe is not null;
 delete from pais where id is not null;
-delete from piloto where id_piloto is not null;
-delete from corrida where id_corrida is not null;
-delete from piloto_corrida where id is not null;
\ No newline at end of file
+delete from usuario where id_usuario is not null;
+alter table corrida alter column id_corrida restart with 1;
+alter table piloto alter column id_piloto restart with 1;
+alter table pista alter column id_pista restart with 1;
+alter table campeonato alter column codigo_campeonato restart with 1;
+alter table equipe alter column id_quipe restart with 1;
+alter table pais alter column id restart with 1;
+alter table usuario alter column id_usuario restart with 1;
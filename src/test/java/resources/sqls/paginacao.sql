@@ -0,0 +1,8 @@
+INSERT INTO pais(id, name) SELECT 9100 + X, 'Pais ' || X FROM SYSTEM_RANGE(0, 509);
+INSERT INTO equipe(id_quipe, nome_equipe) SELECT 9100 + X, 'Equipe ' || X FROM SYSTEM_RANGE(0, 2);
+INSERT INTO piloto(id_piloto, nome_piloto, country_id, team_id_quipe) SELECT 9100 + X, 'Piloto ' || X, 9100 + X, 9100 + X FROM SYSTEM_RANGE(0, 2);
+INSERT INTO pista(id_pista, nome_pista, tamanho_pista, country_id) SELECT 9100 + X, 'Pista ' || X, 1000 + X, 9100 + X FROM SYSTEM_RANGE(0, 2);
+INSERT INTO campeonato(codigo_campeonato, descricao, ano) SELECT 9100 + X, 'Campeonato ' || X, 2020 FROM SYSTEM_RANGE(0, 2);
+INSERT INTO corrida(id_corrida, data_corrida, speedway_id_pista, championship_codigo_campeonato) SELECT 9100 + X, '2020-03-01 00:00:00', 9100 + X, 9100 + X FROM SYSTEM_RANGE(0, 2);
+INSERT INTO piloto_corrida(id, colocacao, pilot_id_piloto, race_id_corrida) SELECT 9100 + X, 1, 9100 + X, 9100 + X FROM SYSTEM_RANGE(0, 2);
+INSERT INTO usuario(id_usuario, nome_usuario, email_usuario, senha_usuario, permissoes_usuario) SELECT 9100 + X, 'Usuario ' || X, 'email' || X || '@keyset', 'senha', 'USER' FROM SYSTEM_RANGE(0, 2);
@@ -0,0 +1,12 @@
+INSERT INTO pais(id, name) VALUES(9001, 'Brasil');
+INSERT INTO pais(id, name) VALUES(9002, 'Chile');
+INSERT INTO pais(id, name) VALUES(9003, 'Argentina');
+INSERT INTO pista(id_pista, nome_pista, tamanho_pista, country_id) VALUES(9001, 'Pequena', 1000, 9001);
+INSERT INTO pista(id_pista, nome_pista, tamanho_pista, country_id) VALUES(9002, 'Grande', 5000, 9001);
+INSERT INTO pista(id_pista, nome_pista, tamanho_pista, country_id) VALUES(9003, 'Exterior', 3000, 9003);
+INSERT INTO campeonato(codigo_campeonato, descricao, ano) VALUES(9001, 'Campeonato 2020', 2020);
+INSERT INTO corrida(id_corrida, data_corrida, speedway_id_pista, championship_codigo_campeonato) VALUES(9001, '2019-12-31 00:00:00', 9001, 9001);
+INSERT INTO corrida(id_corrida, data_corrida, speedway_id_pista, championship_codigo_campeonato) VALUES(9002, '2020-01-01 00:00:00', 9001, 9001);
+INSERT INTO corrida(id_corrida, data_corrida, speedway_id_pista, championship_codigo_campeonato) VALUES(9003, '2020-12-31 00:00:00', 9002, 9001);
+INSERT INTO corrida(id_corrida, data_corrida, speedway_id_pista, championship_codigo_campeonato) VALUES(9004, '2021-01-01 00:00:00', 9001, 9001);
+INSERT INTO corrida(id_corrida, data_corrida, speedway_id_pista, championship_codigo_campeonato) VALUES(9005, '2020-06-01 00:00:00', 9003, 9001);
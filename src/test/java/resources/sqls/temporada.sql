@@ -0,0 +1,13 @@
+INSERT INTO pais(id, name) VALUES(9001, 'Brasil');
+INSERT INTO equipe(id_quipe, nome_equipe) VALUES(9001, 'Equipe A');
+INSERT INTO equipe(id_quipe, nome_equipe) VALUES(9002, 'Equipe B');
+INSERT INTO piloto(id_piloto, nome_piloto, country_id, team_id_quipe) VALUES(9001, 'Piloto 1', 9001, 9001);
+INSERT INTO piloto(id_piloto, nome_piloto, country_id, team_id_quipe) VALUES(9002, 'Piloto 2', 9001, 9001);
+INSERT INTO piloto(id_piloto, nome_piloto, country_id, team_id_quipe) VALUES(9003, 'Piloto 3', 9001, 9002);
+INSERT INTO pista(id_pista, nome_pista, tamanho_pista, country_id) VALUES(9001, 'Interlagos', 4309, 9001);
+INSERT INTO pista(id_pista, nome_pista, tamanho_pista, country_id) VALUES(9002, 'Monza', 5793, 9001);
+INSERT INTO campeonato(codigo_campeonato, descricao, ano) VALUES(9001, 'Campeonato 2020', 2020);
+INSERT INTO campeonato(codigo_campeonato, descricao, ano) VALUES(9002, 'Copa 2020', 2020);
+INSERT INTO corrida(id_corrida, data_corrida, speedway_id_pista, championship_codigo_campeonato) VALUES(9001, '2020-03-01 00:00:00', 9001, 9001);
+INSERT INTO corrida(id_corrida, data_corrida, speedway_id_pista, championship_codigo_campeonato) VALUES(9002, '2020-04-01 00:00:00', 9001, 9001);
+INSERT INTO corrida(id_corrida, data_corrida, speedway_id_pista, championship_codigo_campeonato) VALUES(9003, '2020-05-01 00:00:00', 9002, 9001);